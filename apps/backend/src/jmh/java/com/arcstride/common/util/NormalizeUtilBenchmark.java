@@ -0,0 +1,55 @@
+package com.arcstride.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * unit_key / character_name 정규화.
+ * 입력 종류: 이미 정규화됨 / 공백·대소문자 혼합 / 일본어(전각 포함) / 한글
+ * legacyRegex: 이전 구현(strip + toLowerCase + replaceAll) 비교 기준
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NormalizeUtilBenchmark {
+
+    @Param({"normalized", "mixed", "japanese", "korean"})
+    public String kind;
+
+    private String input;
+
+    @Setup
+    public void setup() {
+        input = switch (kind) {
+            case "normalized" -> "vol. 12 chapter 3";
+            case "mixed" -> "  Vol.  12\tChapter   3  ";
+            case "japanese" -> "　第１２巻　ＥＸＴＲＡ　 ルート ";
+            case "korean" -> "젤다의 전설 티어스 오브 더 킹덤";
+            default -> throw new IllegalArgumentException(kind);
+        };
+    }
+
+    @Benchmark
+    public String normalize() {
+        return NormalizeUtil.normalize(input);
+    }
+
+    @Benchmark
+    public String legacyRegex() {
+        return input.strip().toLowerCase().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,60 @@
+package com.arcstride.config.csrf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSRF 토큰 처리: 요청마다 XOR 마스킹(handle) + 헤더 값 해석(resolveCsrfTokenValue).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpaCsrfTokenRequestHandlerBenchmark {
+
+    private final SpaCsrfTokenRequestHandler handler = new SpaCsrfTokenRequestHandler();
+    private final CsrfToken token = new DefaultCsrfToken("X-XSRF-TOKEN", "_csrf", UUID.randomUUID().toString());
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private MockHttpServletRequest headerRequest;
+
+    @Setup
+    public void setup() {
+        // SPA는 쿠키의 XOR 마스킹된 값을 헤더로 전송
+        MockHttpServletRequest issued = new MockHttpServletRequest("GET", "/api/public/ping");
+        handler.handle(issued, response, () -> token);
+        String masked = ((CsrfToken) issued.getAttribute(CsrfToken.class.getName())).getToken();
+
+        headerRequest = new MockHttpServletRequest("POST", "/api/me/memos");
+        headerRequest.addHeader("X-XSRF-TOKEN", masked);
+    }
+
+    @Benchmark
+    public Object handle() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/titles");
+        handler.handle(request, response, () -> token);
+        return request.getAttribute(CsrfToken.class.getName());
+    }
+
+    @Benchmark
+    public String resolveFromHeader() {
+        return handler.resolveCsrfTokenValue(headerRequest, token);
+    }
+}
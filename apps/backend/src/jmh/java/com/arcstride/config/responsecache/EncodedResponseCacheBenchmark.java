@@ -0,0 +1,119 @@
+package com.arcstride.config.responsecache;
+
+import com.arcstride.common.dto.ItemsResponse;
+import com.arcstride.domain.library.dto.LibraryDtos;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 목록 응답 기록: 캐시 적중(바이트 복사) vs 매 요청 DTO 생성 + 직렬화.
+ * gzip=true면 Accept-Encoding: gzip 요청 (적중 시 미리 압축한 사본 기록).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EncodedResponseCacheBenchmark {
+
+    @Param({"20", "200"})
+    public int items;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    /** 요청마다 MockServletContext를 만들지 않도록 공유 */
+    private final MockServletContext servletContext = new MockServletContext();
+
+    private EncodedResponseCache cache;
+    private EncodedResponseCache disabled;
+    private List<LibraryDtos.StoreItem> stores;
+
+    @Setup
+    public void setup() {
+        stores = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            stores.add(new LibraryDtos.StoreItem((long) i, "Store " + i, "DIGITAL", "https://store.example.com/" + i));
+        }
+        cache = new EncodedResponseCache(jsonMapper,
+                new ResponseCacheProperties(true, DataSize.ofMegabytes(32), DataSize.ofKilobytes(1)), new SimpleMeterRegistry());
+        disabled = new EncodedResponseCache(jsonMapper,
+                new ResponseCacheProperties(false, DataSize.ofMegabytes(32), DataSize.ofKilobytes(1)), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public SinkResponse cachedHit() throws IOException {
+        return write(cache);
+    }
+
+    @Benchmark
+    public SinkResponse serializeEachTime() throws IOException {
+        return write(disabled);
+    }
+
+    private SinkResponse write(EncodedResponseCache target) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/api/stores");
+        if (gzip) request.addHeader("Accept-Encoding", "gzip, deflate, br");
+        SinkResponse response = new SinkResponse();
+        target.write(new ServletWebRequest(request, response), "stores", "\"stores-v1\"",
+                () -> ItemsResponse.of(stores.stream().map(s -> new LibraryDtos.StoreItem(s.storeId(), s.name(), s.storeType(), s.url())).toList()));
+        return response;
+    }
+
+    /** MockHttpServletResponse 기본 스트림은 바이트마다 flush 하므로 측정을 왜곡 → 단순 버퍼로 대체 */
+    public static final class SinkResponse extends MockHttpServletResponse {
+
+        private final ByteArrayOutputStream sink = new ByteArrayOutputStream(16 * 1024);
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return new ServletOutputStream() {
+                @Override
+                public void write(int b) {
+                    sink.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    sink.write(b, off, len);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                }
+            };
+        }
+    }
+}
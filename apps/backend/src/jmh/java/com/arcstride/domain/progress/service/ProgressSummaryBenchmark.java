@@ -0,0 +1,38 @@
+package com.arcstride.domain.progress.service;
+
+import com.arcstride.domain.progress.dto.ProgressDtos;
+import com.arcstride.domain.progress.repository.ProgressRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProgressService.titleSummary의 집계/파생 상태 계산 (DB 조회 제외).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProgressSummaryBenchmark {
+
+    private record Count(String getStatus, Long getCnt) implements ProgressRepository.StatusCount {}
+
+    private final List<ProgressRepository.StatusCount> counts = List.of(
+            new Count("DONE", 12L), new Count("PROGRESS", 3L), new Count("NONE", 1L));
+
+    @Benchmark
+    public ProgressDtos.TitleSummaryResponse summarize() {
+        return ProgressService.summarize(1L, 40, counts);
+    }
+}
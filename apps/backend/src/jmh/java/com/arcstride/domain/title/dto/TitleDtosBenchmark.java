@@ -0,0 +1,93 @@
+package com.arcstride.domain.title.dto;
+
+import com.arcstride.common.dto.PageResponse;
+import com.arcstride.common.enums.Enums.TitleType;
+import com.arcstride.domain.title.entity.Title;
+import com.arcstride.domain.title.entity.TitleStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Title 목록 응답 경로: 엔티티 → ListItem/StatsDto 매핑, PageResponse JSON 직렬화 (페이지 크기 20).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TitleDtosBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private Title title;
+    private TitleStats stats;
+    private PageResponse<TitleDtos.ListItem> page;
+
+    @Setup
+    public void setup() {
+        List<TitleDtos.ListItem> items = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            items.add(TitleDtos.ListItem.from(title(i)));
+        }
+        title = title(0);
+        stats = title.getStats();
+        page = new PageResponse<>(new PageResponse.PageMeta(0, PAGE_SIZE, 1234, 62), items);
+    }
+
+    @Benchmark
+    public TitleDtos.ListItem listItemFrom() {
+        return TitleDtos.ListItem.from(title);
+    }
+
+    @Benchmark
+    public TitleDtos.StatsDto statsDtoFrom() {
+        return TitleDtos.StatsDto.from(stats);
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+
+    private static Title title(int i) {
+        Title t = Title.builder()
+                .titleId(1000L + i)
+                .type(TitleType.GAME)
+                .originalTitle("ゼルダの伝説 ティアーズ オブ ザ キングダム " + i)
+                .koreanTitle("젤다의 전설 티어스 오브 더 킹덤 " + i)
+                .releaseDate(LocalDate.of(2023, 5, 12))
+                .coverUrl("https://cdn.example.com/covers/" + i + ".jpg")
+                .isExplicit(false)
+                .build();
+        t.setStats(TitleStats.builder()
+                .titleId(t.getTitleId())
+                .title(t)
+                .avgGraphicsX2(new BigDecimal("17.250"))
+                .avgStoryX2(new BigDecimal("15.500"))
+                .avgMusicX2(new BigDecimal("18.000"))
+                .avgEtcX2(new BigDecimal("16.125"))
+                .reviewCount(321)
+                .commentCount(87)
+                .guideCount(12)
+                .build());
+        return t;
+    }
+}
@@ -30,4 +30,14 @@ public final class Enums {
     public enum AcquisitionType {
         PURCHASE, SUBSCRIPTION, GIFT
     }
+
+    /** 리비전 저장 형식: 전체 스냅샷 또는 직전 리비전 대비 델타 */
+    public enum RevisionKind {
+        SNAPSHOT, DELTA
+    }
+
+    /** 본문 저장 형식 (BLOB 컬럼) */
+    public enum ContentCodec {
+        PLAIN, DEFLATE
+    }
 }
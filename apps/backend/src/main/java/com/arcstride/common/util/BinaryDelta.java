@@ -0,0 +1,133 @@
+package com.arcstride.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 바이너리 델타 (source → target) 인코딩/적용 유틸.
+ *
+ * 형식: varint(targetLength) 뒤에 명령 반복
+ * - COPY   : 0x01, varint(sourceOffset), varint(length)  — source의 구간을 그대로 복사
+ * - INSERT : 0x02, varint(length), bytes                 — 새 바이트 삽입
+ *
+ * source를 BLOCK 단위로 해시 색인한 뒤 target을 훑으며 일치 구간을 앞뒤로 확장 (rsync/xdelta 방식 단순화).
+ * 결과는 압축하지 않으므로 저장 시 CompressionUtil.deflate와 함께 사용.
+ */
+public final class BinaryDelta {
+
+    private static final int BLOCK = 16;
+    private static final byte OP_COPY = 0x01;
+    private static final byte OP_INSERT = 0x02;
+
+    private BinaryDelta() {}
+
+    public static byte[] encode(byte[] source, byte[] target) {
+        Map<Integer, Integer> index = new HashMap<>();
+        for (int i = 0; i + BLOCK <= source.length; i += BLOCK) {
+            index.putIfAbsent(hash(source, i), i);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, target.length / 8));
+        writeVarint(out, target.length);
+
+        int literalStart = 0;
+        int i = 0;
+        while (i + BLOCK <= target.length) {
+            Integer candidate = index.get(hash(target, i));
+            if (candidate == null || !Arrays.equals(source, candidate, candidate + BLOCK, target, i, i + BLOCK)) {
+                i++;
+                continue;
+            }
+
+            int srcStart = candidate;
+            int tgtStart = i;
+            // 뒤로 확장 (아직 내보내지 않은 literal 구간까지만)
+            while (srcStart > 0 && tgtStart > literalStart && source[srcStart - 1] == target[tgtStart - 1]) {
+                srcStart--;
+                tgtStart--;
+            }
+            // 앞으로 확장
+            int srcEnd = candidate + BLOCK;
+            int tgtEnd = i + BLOCK;
+            while (srcEnd < source.length && tgtEnd < target.length && source[srcEnd] == target[tgtEnd]) {
+                srcEnd++;
+                tgtEnd++;
+            }
+
+            writeInsert(out, target, literalStart, tgtStart);
+            out.write(OP_COPY);
+            writeVarint(out, srcStart);
+            writeVarint(out, srcEnd - srcStart);
+
+            i = tgtEnd;
+            literalStart = tgtEnd;
+        }
+        writeInsert(out, target, literalStart, target.length);
+        return out.toByteArray();
+    }
+
+    public static byte[] apply(byte[] source, byte[] delta) {
+        int[] pos = {0};
+        int targetLength = readVarint(delta, pos);
+        byte[] target = new byte[targetLength];
+        int written = 0;
+
+        while (pos[0] < delta.length) {
+            byte op = delta[pos[0]++];
+            if (op == OP_COPY) {
+                int offset = readVarint(delta, pos);
+                int length = readVarint(delta, pos);
+                System.arraycopy(source, offset, target, written, length);
+                written += length;
+            } else if (op == OP_INSERT) {
+                int length = readVarint(delta, pos);
+                System.arraycopy(delta, pos[0], target, written, length);
+                pos[0] += length;
+                written += length;
+            } else {
+                throw new IllegalStateException("알 수 없는 델타 명령: " + op);
+            }
+        }
+        if (written != targetLength) {
+            throw new IllegalStateException("델타 적용 결과 길이 불일치: " + written + " != " + targetLength);
+        }
+        return target;
+    }
+
+    private static void writeInsert(ByteArrayOutputStream out, byte[] target, int from, int to) {
+        if (to <= from) return;
+        out.write(OP_INSERT);
+        writeVarint(out, to - from);
+        out.write(target, from, to - from);
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int h = 1;
+        for (int i = offset; i < offset + BLOCK; i++) {
+            h = 31 * h + data[i];
+        }
+        return h;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] data, int[] pos) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
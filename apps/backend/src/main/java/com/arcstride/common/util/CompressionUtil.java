@@ -0,0 +1,76 @@
+package com.arcstride.common.util;
+
+import com.arcstride.common.enums.Enums.ContentCodec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 본문(공략 등)의 BLOB 저장용 압축 유틸.
+ * 규칙: UTF-8 인코딩 후 MIN_COMPRESS_BYTES 이상이고 압축 결과가 더 작을 때만 DEFLATE, 그 외 PLAIN
+ */
+public final class CompressionUtil {
+
+    /** 이보다 짧은 본문은 압축 이득보다 CPU 비용이 큼 */
+    public static final int MIN_COMPRESS_BYTES = 512;
+
+    private CompressionUtil() {}
+
+    public record Encoded(byte[] data, ContentCodec codec) {}
+
+    public static Encoded encode(String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < MIN_COMPRESS_BYTES) return new Encoded(raw, ContentCodec.PLAIN);
+
+        byte[] deflated = deflate(raw);
+        return deflated.length < raw.length
+                ? new Encoded(deflated, ContentCodec.DEFLATE)
+                : new Encoded(raw, ContentCodec.PLAIN);
+    }
+
+    public static String decode(byte[] data, ContentCodec codec) {
+        if (data == null) return null;
+        byte[] raw = codec == ContentCodec.DEFLATE ? inflate(data) : data;
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    public static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 3));
+            byte[] buf = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buf, 0, deflater.deflate(buf));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static byte[] inflate(byte[] data) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+            byte[] buf = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buf);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("손상된 DEFLATE 데이터");
+                }
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("손상된 DEFLATE 데이터", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
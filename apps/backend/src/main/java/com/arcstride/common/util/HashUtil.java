@@ -0,0 +1,27 @@
+package com.arcstride.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 콘텐츠 해시 유틸.
+ * 규칙: UTF-8 바이트의 SHA-256, 소문자 hex 64자 (MySQL SHA2(x, 256)과 동일)
+ */
+public final class HashUtil {
+
+    private HashUtil() {}
+
+    public static String sha256Hex(String text) {
+        return sha256Hex(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
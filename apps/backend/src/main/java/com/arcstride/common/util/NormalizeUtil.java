@@ -1,8 +1,13 @@
 package com.arcstride.common.util;
 
+import java.text.Normalizer;
+
 /**
  * unit_key, character_name 등의 정규화 유틸.
- * 규칙: trim + lower + 공백축약(연속공백 → 단일공백)
+ * 규칙: NFKC(전각/반각·호환 문자 통일) + lower(로케일 무관) + trim + 공백축약(모든 유니코드 공백 → 단일 ' ')
+ *
+ * 예: "　第１２巻　ＥＸＴＲＡ " → "第12巻 extra", "ｶﾞｲﾄﾞ" → "ガイド"
+ * 이미 정규화된 입력(소문자 ASCII, 한글/한자/가나)은 새 문자열을 만들지 않고 그대로 반환.
  */
 public final class NormalizeUtil {
 
@@ -10,8 +15,56 @@ public final class NormalizeUtil {
 
     public static String normalize(String input) {
         if (input == null) return null;
-        return input.strip()
-                .toLowerCase()
-                .replaceAll("\\s+", " ");
+        if (isNormalized(input)) return input;
+
+        String s = Normalizer.isNormalized(input, Normalizer.Form.NFKC)
+                ? input
+                : Normalizer.normalize(input, Normalizer.Form.NFKC);
+
+        StringBuilder out = new StringBuilder(s.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < s.length(); ) {
+            int cp = s.codePointAt(i);
+            i += Character.charCount(cp);
+            if (Character.isWhitespace(cp) || Character.isSpaceChar(cp)) {
+                // 앞쪽 공백은 버리고, 중간 공백은 다음 문자가 나올 때 1칸만 기록 (뒤쪽 공백은 자연히 제거)
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            out.appendCodePoint(Character.toLowerCase(cp));
+        }
+        return out.toString();
+    }
+
+    /** 정규화 결과가 입력과 같음이 확실한 경우만 true (판단 불가 문자는 false → 일반 경로) */
+    private static boolean isNormalized(String s) {
+        int n = s.length();
+        if (n == 0) return true;
+        if (s.charAt(0) == ' ' || s.charAt(n - 1) == ' ') return false;
+
+        char prev = 0;
+        for (int i = 0; i < n; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                if (c >= 'A' && c <= 'Z') return false;
+                if (c == ' ' ? prev == ' ' : Character.isWhitespace(c)) return false;
+            } else if (!isStableNonAscii(c)) {
+                return false;
+            }
+            prev = c;
+        }
+        return true;
+    }
+
+    /** NFKC/소문자 변환에 영향받지 않는 주요 문자 범위 */
+    private static boolean isStableNonAscii(char c) {
+        return (c >= 0xAC00 && c <= 0xD7A3)      // 한글 음절
+                || (c >= 0x4E00 && c <= 0x9FFF)  // CJK 통합 한자
+                || (c >= 0x3041 && c <= 0x3096)  // 히라가나
+                || (c >= 0x30A0 && c <= 0x30FE); // 가타카나 (U+30FF 제외)
     }
 }
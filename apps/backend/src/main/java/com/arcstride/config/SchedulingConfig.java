@@ -0,0 +1,16 @@
+package com.arcstride.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 백그라운드 작업(@Scheduled) 활성화.
+ * 예: 삭제 댓글 정리(CommentPurger), 아웃박스 전달(OutboxDispatcher)
+ *
+ * 스케줄러는 Spring Boot 자동 구성: 가상 스레드 모드는 실행마다 가상 스레드,
+ * 아니면 spring.task.scheduling.pool.size 크기의 풀 (기본 1이면 긴 작업 하나가 나머지를 모두 지연시킴)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
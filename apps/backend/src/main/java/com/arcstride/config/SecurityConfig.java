@@ -1,6 +1,13 @@
 package com.arcstride.config;
 
 import com.arcstride.common.dto.ErrorResponse;
+import com.arcstride.config.publicread.PublicCacheControlFilter;
+import com.arcstride.config.publicread.PublicReadProperties;
+import com.arcstride.config.publicread.PublicReadRequestMatcher;
+import com.arcstride.config.ratelimit.RateLimitFilter;
+import com.arcstride.config.ratelimit.RateLimitProperties;
+import com.arcstride.config.ratelimit.RateLimiter;
+import com.arcstride.config.session.SessionConfig;
 import com.arcstride.security.handler.OAuth2LoginSuccessHandler;
 import tools.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -9,14 +16,20 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.header.HeaderWriterFilter;
 
 @Slf4j
 @Configuration
@@ -28,6 +41,9 @@ public class SecurityConfig {
     private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
     private final ObjectMapper objectMapper;
     private final Environment environment;
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimiter rateLimiter;
+    private final PublicReadProperties publicReadProperties;
 
     /**
      * CSP 정책: 프로덕션에서는 unsafe-eval 제거.
@@ -50,18 +66,49 @@ public class SecurityConfig {
                 "frame-ancestors 'none'";
     }
 
+    /** 보안 헤더 (두 체인 공통) */
+    private void securityHeaders(HeadersConfigurer<HttpSecurity> headers) {
+        headers
+                .contentTypeOptions(opts -> {})                    // X-Content-Type-Options: nosniff (기본 활성)
+                .frameOptions(frame -> frame.deny())              // X-Frame-Options: DENY
+                .referrerPolicy(ref -> ref.policy(
+                        org.springframework.security.web.header.writers.ReferrerPolicyHeaderWriter.ReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN))
+                .contentSecurityPolicy(csp -> csp.policyDirectives(buildCspDirectives()))
+                .permissionsPolicy(pp -> pp.policy("camera=(), microphone=(), geolocation=()"));
+    }
+
+    /**
+     * 비로그인 공개 조회 체인 (세션 쿠키 없는 GET/HEAD + arcstride.public-read.paths).
+     * 세션 조회/생성, CSRF 토큰 실체화(Set-Cookie), 요청 캐시를 모두 생략하여
+     * 응답에 쿠키가 붙지 않고 CDN이 Cache-Control: public 으로 캐시할 수 있게 함.
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain publicReadFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(new PublicReadRequestMatcher(publicReadProperties, SessionConfig.COOKIE_NAME))
+                .headers(headers -> {
+                    securityHeaders(headers);
+                    headers.cacheControl(cache -> cache.disable());   // PublicCacheControlFilter가 결정
+                })
+                .csrf(csrf -> csrf.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext(context -> context.securityContextRepository(new RequestAttributeSecurityContextRepository()))
+                .requestCache(cache -> cache.disable())
+                .logout(logout -> logout.disable())
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .addFilterAfter(new PublicCacheControlFilter(publicReadProperties), HeaderWriterFilter.class)
+                .addFilterBefore(new RateLimitFilter(rateLimitProperties, rateLimiter, objectMapper), AuthorizationFilter.class);
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 // ---- 보안 헤더 ----
-                .headers(headers -> headers
-                        .contentTypeOptions(opts -> {})                    // X-Content-Type-Options: nosniff (기본 활성)
-                        .frameOptions(frame -> frame.deny())              // X-Frame-Options: DENY
-                        .referrerPolicy(ref -> ref.policy(
-                                org.springframework.security.web.header.writers.ReferrerPolicyHeaderWriter.ReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN))
-                        .contentSecurityPolicy(csp -> csp.policyDirectives(buildCspDirectives()))
-                        .permissionsPolicy(pp -> pp.policy("camera=(), microphone=(), geolocation=()"))
-                )
+                .headers(this::securityHeaders)
 
                 // ---- CSRF ----
                 // CookieCsrfTokenRepository: XSRF-TOKEN 쿠키 발급 → React가 X-XSRF-TOKEN 헤더로 전송
@@ -135,9 +182,10 @@ public class SecurityConfig {
                         // Review, Comment - 공개 조회
                         .requestMatchers(HttpMethod.GET, "/api/titles/{titleId}/reviews").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/titles/{titleId}/comments").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/titles/{titleId}/comments/stream").permitAll()
 
                         // Guide - 공개 조회
-                        .requestMatchers(HttpMethod.GET, "/api/guides", "/api/guides/{guideId}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/guides", "/api/guides/popular", "/api/guides/{guideId}", "/api/guides/{guideId}/rendered").permitAll()
 
                         // Store - 공개 조회
                         .requestMatchers(HttpMethod.GET, "/api/stores").permitAll()
@@ -146,6 +194,9 @@ public class SecurityConfig {
                         .requestMatchers("/", "/index.html", "/login", "/signup", "/static/**", "/assets/**", "/favicon.ico").permitAll()
                         .requestMatchers("/api/docs/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
+                        // 운영 지표 (관리 포트 management.server.port로만 노출)
+                        .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
+
                         // 나머지 전부 인증 필요
                         .anyRequest().authenticated()
                 )
@@ -163,7 +214,7 @@ public class SecurityConfig {
                 .logout(logout -> logout
                         .logoutUrl("/api/auth/logout")
                         .invalidateHttpSession(true)
-                        .deleteCookies("JSESSIONID")
+                        .deleteCookies(SessionConfig.COOKIE_NAME)
                         .logoutSuccessHandler((request, response, authentication) -> {
                             // API 호출이므로 JSON 응답 (204 No Content)
                             response.setStatus(204);
@@ -172,7 +223,11 @@ public class SecurityConfig {
 
                 // ---- CSRF 쿠키 발급 필터 ----
                 // Spring Security 6의 deferred CsrfToken을 강제 실체화하여 XSRF-TOKEN 쿠키 발급
-                .addFilterAfter(new CsrfCookieFilter(), BasicAuthenticationFilter.class);
+                .addFilterAfter(new CsrfCookieFilter(), BasicAuthenticationFilter.class)
+
+                // ---- 요청 속도 제한 ----
+                // 인가 판단/컨트롤러(DB) 이전에 차단. 세션 userId가 있으면 사용자 단위, 없으면 IP 단위
+                .addFilterBefore(new RateLimitFilter(rateLimitProperties, rateLimiter, objectMapper), AuthorizationFilter.class);
 
         return http.build();
     }
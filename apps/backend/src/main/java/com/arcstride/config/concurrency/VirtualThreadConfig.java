@@ -0,0 +1,68 @@
+package com.arcstride.config.concurrency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true).
+ * Tomcat 요청 처리, @Async, @Scheduled 실행기는 Spring Boot가 가상 스레드로 전환하고,
+ * 여기서는 DB 동시성 제한과 pinning 감지를 추가.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * 모든 DataSource 빈 앞에 세마포어 설치 (ConfigurationProperties 바인딩 전 단계이므로 Environment에서 직접 읽음).
+     * SQL 계측(SqlTimingDataSource)보다 바깥쪽에 두어 permit 대기 시간이 DB 시간에 섞이지 않게 함.
+     * replica 구성에서는 ReplicaDataSourceConfig가 풀마다 따로 설치하므로 건너뜀.
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new ConnectionLimitingPostProcessor(environment);
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperties properties,
+                                                                  MeterRegistry meterRegistry,
+                                                                  ObjectProvider<DataSource> dataSources) {
+        dataSources.forEach(ds -> {
+            if (ds instanceof ConnectionLimitingDataSource limited) {
+                Gauge.builder("arcstride.db.permit.waiting", limited, ConnectionLimitingDataSource::getQueueLength)
+                        .description("DB 커넥션 permit 대기 중인 스레드 수")
+                        .register(meterRegistry);
+            }
+        });
+        return new VirtualThreadPinningMonitor(properties, meterRegistry);
+    }
+
+    private record ConnectionLimitingPostProcessor(Environment environment) implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource ds) || bean instanceof ConnectionLimitingDataSource) return bean;
+            if (StringUtils.hasText(environment.getProperty("arcstride.datasource.replica.url"))) return bean;
+            int permits = environment.getProperty("arcstride.virtual-threads.db-permits", Integer.class, 10);
+            Duration timeout = environment.getProperty("arcstride.virtual-threads.db-acquire-timeout",
+                    Duration.class, Duration.ofSeconds(30));
+            return new ConnectionLimitingDataSource(ds, permits, timeout);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.arcstride.config.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * 가상 스레드 pinning 감지.
+ * JFR jdk.VirtualThreadPinned 이벤트를 앱 내부에서 스트리밍해, 우리 코드(com.arcstride) 프레임이 있는 경우
+ * 위치와 함께 WARN 로그 + arcstride.vthread.pinned{frame} 카운터 증가.
+ * (synchronized 블록 안의 I/O, 네이티브 호출 등으로 캐리어 스레드를 점유한 경우)
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String APP_PACKAGE = "com.arcstride.";
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+
+    private final VirtualThreadProperties properties;
+    private final MeterRegistry meterRegistry;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(properties.pinningThreshold()).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Virtual thread pinning monitor started: threshold={}", properties.pinningThreshold());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String frame = appFrame(event);
+        meterRegistry.counter("arcstride.vthread.pinned", "frame", frame != null ? frame : "other").increment();
+        if (frame != null) {
+            log.warn("Virtual thread pinned: duration={}ms, at={}", event.getDuration().toMillis(), frame);
+        }
+    }
+
+    private static String appFrame(RecordedEvent event) {
+        if (event.getStackTrace() == null) return null;
+        for (RecordedFrame f : event.getStackTrace().getFrames()) {
+            String type = f.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return type.substring(type.lastIndexOf('.') + 1) + "#" + f.getMethod().getName() + ":" + f.getLineNumber();
+            }
+        }
+        return null;
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) stream.close();
+    }
+}
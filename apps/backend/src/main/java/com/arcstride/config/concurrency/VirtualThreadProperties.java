@@ -0,0 +1,21 @@
+package com.arcstride.config.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true) 부가 설정.
+ *
+ * @param dbPermits          DB 커넥션 동시 획득 상한 (HikariCP maximum-pool-size와 같게).
+ *                           replica 구성에서는 쓰지 않고 풀마다 자기 maximum-pool-size 적용
+ * @param dbAcquireTimeout   permit 대기 상한 (초과 시 SQLTransientConnectionException)
+ * @param pinningThreshold   이 시간 이상 캐리어 스레드를 점유한 가상 스레드를 기록 (JFR jdk.VirtualThreadPinned)
+ */
+@ConfigurationProperties("arcstride.virtual-threads")
+public record VirtualThreadProperties(
+        @DefaultValue("10") int dbPermits,
+        @DefaultValue("30s") Duration dbAcquireTimeout,
+        @DefaultValue("20ms") Duration pinningThreshold
+) {}
@@ -0,0 +1,197 @@
+package com.arcstride.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.Statement;
+
+/**
+ * primary/replica 풀과 라우팅 상태.
+ *
+ * - readOnly 트랜잭션 → replica (LazyConnectionDataSourceProxy의 read-only DataSource로 연결)
+ * - 쓰기 트랜잭션 커밋 후 stickiness 동안 같은 세션의 읽기는 primary (read-your-writes)
+ * - replica 연결 실패(SQLState 08xxx)/복제 지연 초과 시 primary로 대체, 주기 점검에서 회복되면 다시 사용
+ *   풀/세마포어 대기 초과는 replica 장애가 아니므로 그대로 실패 (primary로 부하를 넘기지 않고 replica도 내리지 않음)
+ * - 커넥션은 풀별 경로(primaryPath/replicaPath)로 얻음. 가상 스레드 모드에서는 풀마다 자기 크기의 세마포어가 앞에 붙음
+ */
+@Slf4j
+public class ReadReplicaRouting {
+
+    /**
+     * 마지막 쓰기 커밋 시각(epoch millis).
+     * 세션은 MySQL에 저장되고 hot tier도 조회마다 속성 버전을 확인하므로(MySqlSessionRepository),
+     * 응답 시 세션이 저장된 뒤의 요청이면 다른 인스턴스에서도 보임
+     */
+    public static final String SESSION_LAST_WRITE = "arcstride.lastWriteAt";
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final DataSource primaryPath;
+    private final DataSource replicaPath;
+    private final ReplicaProperties properties;
+
+    private volatile boolean replicaUp = true;
+    private volatile boolean lagCheckSupported = true;
+
+    /**
+     * @param primaryPath primary 커넥션 획득 경로 (pool 자체 또는 동시성 제한 래퍼)
+     * @param replicaPath replica 커넥션 획득 경로
+     */
+    public ReadReplicaRouting(HikariDataSource primary, HikariDataSource replica,
+                              DataSource primaryPath, DataSource replicaPath, ReplicaProperties properties) {
+        this.primary = primary;
+        this.replica = replica;
+        this.primaryPath = primaryPath;
+        this.replicaPath = replicaPath;
+        this.properties = properties;
+    }
+
+    /** 기본(쓰기) 경로: primary + 쓰기 커밋 기록 */
+    public DataSource writeDataSource() {
+        return new DelegatingDataSource(primaryPath) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                registerWriteMark();
+                return super.getConnection();
+            }
+        };
+    }
+
+    /** readOnly 트랜잭션 경로: 가능하면 replica, 아니면 primary */
+    public DataSource readDataSource() {
+        return new AbstractDataSource() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (replicaUp && !stickyToPrimary()) {
+                    try {
+                        return replicaPath.getConnection();
+                    } catch (SQLException e) {
+                        if (!isConnectivityFailure(e)) throw e;
+                        markDown("connection failed: " + e.getMessage());
+                    }
+                }
+                return primaryPath.getConnection();
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return getConnection();
+            }
+        };
+    }
+
+    /** replica 상태 점검: 연결 가능 여부 + 복제 지연 */
+    @Scheduled(fixedDelayString = "${arcstride.datasource.replica.health-interval:5s}")
+    public void checkReplica() {
+        try (Connection con = replica.getConnection()) {
+            if (!con.isValid(2)) {
+                markDown("validation failed");
+                return;
+            }
+            Long lag = replicationLagSeconds(con);
+            if (lag != null && !properties.maxLag().isZero() && lag > properties.maxLag().toSeconds()) {
+                markDown("replication lag " + lag + "s");
+                return;
+            }
+            if (!replicaUp) {
+                replicaUp = true;
+                log.info("Replica back in service");
+            }
+        } catch (SQLException e) {
+            markDown("health check failed: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        replica.close();
+        primary.close();
+    }
+
+    // ── 내부 구현 ──
+
+    private void markDown(String reason) {
+        if (replicaUp) {
+            replicaUp = false;
+            log.warn("Replica out of service, routing reads to primary: {}", reason);
+        }
+    }
+
+    /**
+     * 연결 자체의 실패인지: SQLNonTransientConnectionException 또는 SQLState 08xxx (원인 체인 포함).
+     * HikariCP 대기 초과는 마지막 연결 실패의 SQLState/원인을 담으므로, 순수한 풀 포화(SQLState 없음)와 구분됨
+     */
+    private static boolean isConnectivityFailure(SQLException e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLNonTransientConnectionException) return true;
+            if (t instanceof SQLException sql && sql.getSQLState() != null && sql.getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** null: 지연 정보 없음 (권한 없음/검사 비활성) */
+    private Long replicationLagSeconds(Connection con) {
+        if (properties.maxLag().isZero() || !lagCheckSupported) return null;
+        try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) return null;
+            long lag = rs.getLong("Seconds_Behind_Source");
+            // NULL = 복제 스레드 중지 → 지연 무한대로 취급
+            return rs.wasNull() ? Long.MAX_VALUE : lag;
+        } catch (SQLException e) {
+            lagCheckSupported = false;
+            log.warn("Replica lag check disabled (SHOW REPLICA STATUS unavailable): {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void registerWriteMark() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        HttpSession session = currentSession();
+        if (session == null) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    session.setAttribute(SESSION_LAST_WRITE, System.currentTimeMillis());
+                } catch (IllegalStateException ignored) {
+                    // 로그아웃 등으로 세션이 무효화된 경우
+                }
+            }
+        });
+    }
+
+    private boolean stickyToPrimary() {
+        HttpSession session = currentSession();
+        if (session == null) return false;
+        try {
+            Long lastWrite = (Long) session.getAttribute(SESSION_LAST_WRITE);
+            return lastWrite != null && System.currentTimeMillis() - lastWrite < properties.stickiness().toMillis();
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private static HttpSession currentSession() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attrs)) return null;
+        return attrs.getRequest().getSession(false);
+    }
+}
@@ -0,0 +1,91 @@
+package com.arcstride.config.datasource;
+
+import com.arcstride.config.concurrency.ConnectionLimitingDataSource;
+import com.arcstride.config.concurrency.VirtualThreadProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 분리 (arcstride.datasource.replica.url 설정 시에만).
+ *
+ * LazyConnectionDataSourceProxy가 첫 SQL 시점까지 커넥션 획득을 미루므로,
+ * @Transactional(readOnly = true)가 설정한 read-only 플래그를 보고 replica 풀을 고를 수 있음.
+ * 두 풀은 빈으로 노출하지 않음 (SQL 계측 래퍼가 라우팅 바깥에 한 번만 적용되도록).
+ * 가상 스레드 모드의 동시성 제한은 라우팅 안쪽에서 풀마다 따로 적용 (풀 크기 = permit 수,
+ * 바깥 한 곳에서 막으면 replica 풀이 있어도 전체 동시 진입이 primary 크기로 묶임).
+ */
+@Configuration
+@ConditionalOnExpression("!'${arcstride.datasource.replica.url:}'.isEmpty()")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    public ReadReplicaRouting readReplicaRouting(DataSourceProperties primaryProperties,
+                                                 ReplicaProperties replicaProperties,
+                                                 VirtualThreadProperties virtualThreadProperties,
+                                                 Environment environment,
+                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        HikariDataSource replica = new HikariDataSource();
+        replica.setDriverClassName(primaryProperties.determineDriverClassName());
+        replica.setJdbcUrl(replicaProperties.url());
+        replica.setUsername(StringUtils.hasText(replicaProperties.username())
+                ? replicaProperties.username() : primaryProperties.determineUsername());
+        replica.setPassword(StringUtils.hasText(replicaProperties.password())
+                ? replicaProperties.password() : primaryProperties.determinePassword());
+        binder.bind("arcstride.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+
+        meterRegistry.ifAvailable(registry -> {
+            primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        });
+
+        boolean limit = Threading.VIRTUAL.isActive(environment);
+        DataSource primaryPath = limit ? limited(primary, virtualThreadProperties, meterRegistry) : primary;
+        DataSource replicaPath = limit ? limited(replica, virtualThreadProperties, meterRegistry) : replica;
+        return new ReadReplicaRouting(primary, replica, primaryPath, replicaPath, replicaProperties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRouting routing) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(routing.writeDataSource());
+        proxy.setReadOnlyDataSource(routing.readDataSource());
+        return proxy;
+    }
+
+    /** 풀 크기만큼만 진입시키는 세마포어 + pool 태그 대기 수 지표 */
+    private static DataSource limited(HikariDataSource pool, VirtualThreadProperties properties,
+                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        ConnectionLimitingDataSource limited = new ConnectionLimitingDataSource(
+                pool, pool.getMaximumPoolSize(), properties.dbAcquireTimeout());
+        meterRegistry.ifAvailable(registry ->
+                Gauge.builder("arcstride.db.permit.waiting", limited, ConnectionLimitingDataSource::getQueueLength)
+                        .description("DB 커넥션 permit 대기 중인 스레드 수")
+                        .tag("pool", pool.getPoolName())
+                        .register(registry));
+        return limited;
+    }
+}
@@ -0,0 +1,25 @@
+package com.arcstride.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본(replica) 설정. url이 비어 있으면 단일 DataSource(Spring Boot 기본)로 동작.
+ * 풀 설정은 arcstride.datasource.replica.hikari.* (spring.datasource.hikari.*와 같은 키).
+ *
+ * @param url         replica JDBC URL
+ * @param username    비우면 spring.datasource.username
+ * @param password    비우면 spring.datasource.password
+ * @param stickiness  쓰기 트랜잭션 커밋 후 같은 세션의 읽기를 primary로 보내는 시간 (read-your-writes)
+ * @param maxLag      복제 지연이 이 값을 넘으면 replica 사용 중지 (0이면 지연 검사 안 함)
+ */
+@ConfigurationProperties("arcstride.datasource.replica")
+public record ReplicaProperties(
+        String url,
+        String username,
+        String password,
+        @DefaultValue("5s") Duration stickiness,
+        @DefaultValue("10s") Duration maxLag
+) {}
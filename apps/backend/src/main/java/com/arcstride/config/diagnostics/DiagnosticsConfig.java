@@ -0,0 +1,61 @@
+package com.arcstride.config.diagnostics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청 단위 SQL 진단 (N+1 감지).
+ * JDBC 실행 시간은 DataSource 프록시, Hibernate SQL 수는 StatementInspector로 수집하고
+ * RequestDiagnosticsFilter가 요청 단위로 묶어 Server-Timing 헤더/slow-request 로그로 출력.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "arcstride.diagnostics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DiagnosticsConfig {
+
+    /** 풀(HikariCP)에 가장 가까운 쪽에서 계측 — 다른 DataSource 래퍼보다 먼저 적용 */
+    @Bean
+    public static BeanPostProcessor sqlTimingDataSourcePostProcessor() {
+        return new SqlTimingPostProcessor();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlCountingStatementInspector() {
+        return props -> props.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlCountingStatementInspector());
+    }
+
+    /** 세션 로딩 SQL까지 포함하도록 Spring Session/Security 필터보다 앞에 등록 */
+    @Bean
+    public FilterRegistrationBean<RequestDiagnosticsFilter> requestDiagnosticsFilter(
+            DiagnosticsProperties properties, Environment environment) {
+        boolean isProd = environment.matchesProfiles("prod") || environment.matchesProfiles("production");
+        FilterRegistrationBean<RequestDiagnosticsFilter> registration =
+                new FilterRegistrationBean<>(new RequestDiagnosticsFilter(properties, !isProd));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    private static final class SqlTimingPostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource ds && !(bean instanceof SqlTimingDataSource)) {
+                return new SqlTimingDataSource(ds);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.arcstride.config.diagnostics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 요청 단위 SQL 진단 설정.
+ *
+ * @param enabled          SQL 계측 on/off (off면 DataSource/Hibernate 훅을 설치하지 않음)
+ * @param slowRequest      이 시간 이상 걸린 요청은 slow-request 로그
+ * @param slowStatements   SQL 실행 수가 이 값 이상이면 slow-request 로그 (N+1 감지)
+ * @param topSql           slow-request 로그에 남길 SQL fingerprint 수
+ */
+@ConfigurationProperties("arcstride.diagnostics")
+public record DiagnosticsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1s") Duration slowRequest,
+        @DefaultValue("30") int slowStatements,
+        @DefaultValue("5") int topSql
+) {}
@@ -0,0 +1,86 @@
+package com.arcstride.config.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * 요청별 SQL 수/DB 시간 집계.
+ *
+ * - serverTiming=true(비운영 프로파일): 응답 커밋 직전에 Server-Timing 헤더 추가 (브라우저 DevTools에서 확인)
+ * - 임계값 초과 시 slow-request 로그 (상위 SQL fingerprint 포함)
+ * - 비동기 응답(SSE/NDJSON 스트리밍)은 최초 디스패치 구간만 집계
+ */
+@Slf4j
+public class RequestDiagnosticsFilter extends OncePerRequestFilter {
+
+    private final DiagnosticsProperties properties;
+    private final boolean serverTiming;
+
+    public RequestDiagnosticsFilter(DiagnosticsProperties properties, boolean serverTiming) {
+        this.properties = properties;
+        this.serverTiming = serverTiming;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestSqlStats stats = RequestSqlStats.begin();
+        HttpServletResponse target = serverTiming ? new ServerTimingResponse(response, stats) : response;
+        try {
+            filterChain.doFilter(request, target);
+        } finally {
+            RequestSqlStats.end();
+            if (serverTiming && !response.isCommitted()) {
+                response.setHeader("Server-Timing", serverTimingValue(stats));
+            }
+            if (!isAsyncStarted(request)) {
+                logIfSlow(request, response, stats);
+            }
+        }
+    }
+
+    private void logIfSlow(HttpServletRequest request, HttpServletResponse response, RequestSqlStats stats) {
+        long elapsed = stats.elapsedNanos();
+        if (elapsed < properties.slowRequest().toNanos() && stats.statements() < properties.slowStatements()) {
+            return;
+        }
+        String top = stats.top(properties.topSql()).stream()
+                .map(t -> String.format(Locale.ROOT, "{count=%d, ms=%.1f, sql=\"%s\"}",
+                        t.count(), t.nanos() / 1e6, t.fingerprint()))
+                .collect(Collectors.joining(", ", "[", "]"));
+        log.warn("slow_request method={} uri={} status={} total_ms={} db_ms={} statements={} orm_statements={} top_sql={}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(),
+                elapsed / 1_000_000, stats.dbNanos() / 1_000_000, stats.statements(), stats.ormStatements(), top);
+    }
+
+    private static String serverTimingValue(RequestSqlStats stats) {
+        return String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d stmt\", app;dur=%.1f",
+                stats.dbNanos() / 1e6, stats.statements(), stats.elapsedNanos() / 1e6);
+    }
+
+    /** 응답 본문이 쓰여 커밋되기 직전에 Server-Timing 헤더 기록 */
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+        private final RequestSqlStats stats;
+
+        ServerTimingResponse(HttpServletResponse response, RequestSqlStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setHeader("Server-Timing", serverTimingValue(stats));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.arcstride.config.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 요청(스레드)의 SQL 실행 통계.
+ * RequestDiagnosticsFilter가 시작/종료하고, SqlTimingDataSource/SqlCountingStatementInspector가 기록.
+ * 요청 밖(스케줄러 등)에서 실행된 SQL은 기록하지 않음.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    /** 요청당 보관할 서로 다른 SQL 수 상한 (초과분은 합계에만 반영) */
+    private static final int MAX_DISTINCT_SQL = 100;
+    private static final int MAX_FINGERPRINT_LENGTH = 200;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final long startedAt = System.nanoTime();
+    private int statements;
+    private int ormStatements;
+    private long dbNanos;
+    private final Map<String, SqlAgg> bySql = new HashMap<>();
+
+    /** fingerprint별 합계 */
+    public record Top(String fingerprint, int count, long nanos) {}
+
+    private static final class SqlAgg {
+        int count;
+        long nanos;
+    }
+
+    private RequestSqlStats() {}
+
+    static RequestSqlStats begin() {
+        RequestSqlStats stats = new RequestSqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** Hibernate가 SQL을 준비할 때 (StatementInspector) */
+    static void onOrmStatement() {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats != null) stats.ormStatements++;
+    }
+
+    /** JDBC execute* 완료 시 */
+    static void onExecute(String sql, long nanos) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats == null) return;
+        stats.statements++;
+        stats.dbNanos += nanos;
+        if (sql == null) return;
+        SqlAgg agg = stats.bySql.get(sql);
+        if (agg == null) {
+            if (stats.bySql.size() >= MAX_DISTINCT_SQL) return;
+            agg = new SqlAgg();
+            stats.bySql.put(sql, agg);
+        }
+        agg.count++;
+        agg.nanos += nanos;
+    }
+
+    static boolean active() {
+        return CURRENT.get() != null;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public int ormStatements() {
+        return ormStatements;
+    }
+
+    public long dbNanos() {
+        return dbNanos;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startedAt;
+    }
+
+    /** 누적 DB 시간 순 상위 fingerprint (리터럴/IN 목록 길이 차이는 같은 항목으로 합침) */
+    public List<Top> top(int limit) {
+        Map<String, long[]> merged = new LinkedHashMap<>();
+        bySql.forEach((sql, agg) -> {
+            long[] sum = merged.computeIfAbsent(fingerprint(sql), k -> new long[2]);
+            sum[0] += agg.count;
+            sum[1] += agg.nanos;
+        });
+        List<Top> result = new ArrayList<>(merged.size());
+        merged.forEach((fp, sum) -> result.add(new Top(fp, (int) sum[0], sum[1])));
+        result.sort(Comparator.comparingLong(Top::nanos).reversed());
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    static String fingerprint(String sql) {
+        String fp = STRING_LITERAL.matcher(sql).replaceAll("?");
+        fp = NUMBER_LITERAL.matcher(fp).replaceAll("?");
+        fp = WHITESPACE.matcher(fp).replaceAll(" ").strip();
+        fp = IN_LIST.matcher(fp).replaceAll("in (?...)");
+        return fp.length() > MAX_FINGERPRINT_LENGTH ? fp.substring(0, MAX_FINGERPRINT_LENGTH) + "…" : fp;
+    }
+}
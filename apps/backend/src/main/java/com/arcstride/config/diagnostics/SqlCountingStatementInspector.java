@@ -0,0 +1,15 @@
+package com.arcstride.config.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 생성한 SQL 수 집계 (JDBC 전체 실행 수와 비교해 ORM/직접 JDBC 비중 확인).
+ */
+public class SqlCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStats.onOrmStatement();
+        return sql;
+    }
+}
@@ -0,0 +1,57 @@
+package com.arcstride.config.entitycache;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+/**
+ * 카탈로그 엔티티(Title/TitleAlias/Unit/GameCharacter/Store) Hibernate 2차 캐시.
+ *
+ * - 리전은 여기서 미리 만들어 크기/TTL을 고정 (설정에 없는 리전이 생기면 기동 실패)
+ * - READ_WRITE 전략: 같은 인스턴스의 변경은 커밋 시 캐시에 반영, 다른 인스턴스의 변경은 TTL 후 반영
+ * - 컬렉션 캐시는 자식(TitleAlias) 저장/삭제 시 자동 무효화 (auto_evict_collection_cache)
+ * - 적중/미스 지표는 hibernate-micrometer가 리전별로 노출 (hibernate_second_level_cache_requests)
+ */
+@Slf4j
+@Configuration
+public class EntityCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        for (String region : EntityCacheRegions.ALL) {
+            CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+            config.setMaximumSize(OptionalLong.of(properties.maxSize(region)));
+            config.setExpireAfterWrite(OptionalLong.of(properties.ttl(region).toNanos()));
+            config.setStoreByValue(false);   // Hibernate가 이미 분해된 CacheEntry를 넣으므로 복사 불필요
+            config.setStatisticsEnabled(true);
+            cacheManager.createCache(region, config);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(EntityCacheProperties properties,
+                                                               CacheManager entityCacheManager) {
+        return props -> {
+            props.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, properties.enabled());
+            if (!properties.enabled()) return;
+            props.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            props.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            props.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            props.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            log.info("Entity cache enabled: regions={}, maxSize={}, ttl={}",
+                    EntityCacheRegions.ALL, properties.maxSize(), properties.ttl());
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.arcstride.config.entitycache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 카탈로그 엔티티 2차 캐시 설정 (인스턴스 로컬, Caffeine).
+ *
+ * @param enabled  false면 2차 캐시를 끄고 매번 DB 조회
+ * @param maxSize  리전별 기본 최대 항목 수
+ * @param ttl      리전별 기본 만료 (쓰기 후). 다른 인스턴스의 변경이 반영되기까지의 지연 상한
+ * @param regions  리전별 재정의 (키: EntityCacheRegions 이름)
+ */
+@ConfigurationProperties("arcstride.entity-cache")
+public record EntityCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maxSize,
+        @DefaultValue("10m") Duration ttl,
+        Map<String, Region> regions
+) {
+
+    public EntityCacheProperties {
+        regions = regions != null ? regions : Map.of();
+    }
+
+    public long maxSize(String region) {
+        Region r = regions.get(region);
+        return r != null && r.maxSize() != null ? r.maxSize() : maxSize;
+    }
+
+    public Duration ttl(String region) {
+        Region r = regions.get(region);
+        return r != null && r.ttl() != null ? r.ttl() : ttl;
+    }
+
+    /**
+     * @param maxSize  비우면 기본값
+     * @param ttl      비우면 기본값
+     */
+    public record Region(Long maxSize, Duration ttl) {}
+}
@@ -0,0 +1,24 @@
+package com.arcstride.config.entitycache;
+
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 리전 이름.
+ * 엔티티의 @Cache(region = ...)와 EntityCacheConfig의 캐시 생성이 같은 이름을 쓰도록 한곳에 둠.
+ */
+public final class EntityCacheRegions {
+
+    public static final String TITLE = "title";
+    public static final String TITLE_ALIAS = "title-alias";
+    /** Title.aliases 컬렉션 (요소 id 목록, 요소 엔티티는 TITLE_ALIAS 리전) */
+    public static final String TITLE_ALIASES = "title-aliases";
+    /** Title.stats (mappedBy 1:1이라 Title을 캐시에서 읽어도 통계 행을 id로 다시 찾음 → 함께 캐시) */
+    public static final String TITLE_STATS = "title-stats";
+    public static final String UNIT = "unit";
+    public static final String CHARACTER = "character";
+    public static final String STORE = "store";
+
+    public static final List<String> ALL = List.of(TITLE, TITLE_ALIAS, TITLE_ALIASES, TITLE_STATS, UNIT, CHARACTER, STORE);
+
+    private EntityCacheRegions() {}
+}
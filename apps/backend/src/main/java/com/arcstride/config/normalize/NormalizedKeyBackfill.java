@@ -0,0 +1,164 @@
+package com.arcstride.config.normalize;
+
+import com.arcstride.common.util.NormalizeUtil;
+import com.arcstride.domain.character.entity.GameCharacter;
+import com.arcstride.domain.unit.entity.Unit;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 정규화 규칙 변경(trim + lower + 공백축약 → NFKC 추가) 이전에 저장된 normalized_* 값을 새 규칙으로 다시 계산.
+ *
+ * - units.normalized_unit_key, characters.normalized_original_name / normalized_korean_name 대상
+ * - 원본 컬럼(unit_key, original_name, korean_name)에서 다시 계산해 값이 달라진 행만 UPDATE
+ * - 새 값이 다른 행과 유니크 키에서 겹치면(예: "ＥＸ１"과 "ex1") 그 행은 그대로 두고 충돌로 보고 (WARN 로그)
+ *   → 운영자가 중복 행을 정리한 뒤 다시 실행
+ * - 행마다 자동 커밋, 다시 실행해도 안전 (이미 맞는 행은 건너뜀)
+ *
+ * 엔티티 캐시(unit, character)는 JDBC 갱신을 모르므로 끝나면 두 영역을 비움.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NormalizedKeyBackfill {
+
+    private static final String UNIT_SELECT_SQL =
+            "SELECT unit_id, unit_key, normalized_unit_key FROM units WHERE unit_id > ? ORDER BY unit_id LIMIT ?";
+    private static final String UNIT_UPDATE_SQL =
+            "UPDATE units SET normalized_unit_key = ?, updated_at = updated_at WHERE unit_id = ?";
+    private static final String UNIT_CONFLICT_SQL = """
+            SELECT o.unit_id FROM units u JOIN units o
+              ON o.title_id = u.title_id AND o.unit_type = u.unit_type AND o.normalized_unit_key = ?
+            WHERE u.unit_id = ? AND o.unit_id <> u.unit_id
+            """;
+
+    private static final String CHARACTER_SELECT_SQL = """
+            SELECT character_id, original_name, korean_name, normalized_original_name, normalized_korean_name
+            FROM characters WHERE character_id > ? ORDER BY character_id LIMIT ?
+            """;
+    private static final String CHARACTER_UPDATE_SQL = """
+            UPDATE characters SET normalized_original_name = ?, normalized_korean_name = ?, updated_at = updated_at
+            WHERE character_id = ?
+            """;
+    private static final String CHARACTER_CONFLICT_SQL = """
+            SELECT o.character_id FROM characters c JOIN characters o
+              ON o.title_id = c.title_id
+             AND (o.normalized_original_name = ? OR o.normalized_korean_name = ?)
+            WHERE c.character_id = ? AND o.character_id <> c.character_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final NormalizedKeyBackfillProperties properties;
+
+    /** 재계산 결과가 저장값과 다른 행 */
+    private record Change(long id, String first, String second) {}
+
+    public record Result(int scanned, int updated, int collisions) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void runOnStartup() {
+        if (!properties.enabled()) return;
+        Result units = backfillUnits();
+        Result characters = backfillCharacters();
+        entityManagerFactory.getCache().evict(Unit.class);
+        entityManagerFactory.getCache().evict(GameCharacter.class);
+        log.info("Normalized key backfill done: units={}, characters={}", units, characters);
+        if (units.collisions() > 0 || characters.collisions() > 0) {
+            log.warn("Normalized key backfill left {} colliding rows unchanged (see WARN lines above)",
+                    units.collisions() + characters.collisions());
+        }
+    }
+
+    Result backfillUnits() {
+        List<Change> changes = new ArrayList<>();
+        int scanned = 0;
+        long after = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(UNIT_SELECT_SQL, (rs, i) -> new Object[]{
+                    rs.getLong(1), rs.getString(2), rs.getString(3)}, after, properties.batchSize());
+            for (Object[] row : rows) {
+                String next = NormalizeUtil.normalize((String) row[1]);
+                if (!next.equals(row[2])) changes.add(new Change((Long) row[0], next, null));
+            }
+            scanned += rows.size();
+            if (rows.size() < properties.batchSize()) break;
+            after = (Long) rows.getLast()[0];
+        }
+        return apply(scanned, changes,
+                c -> jdbcTemplate.update(UNIT_UPDATE_SQL, c.first(), c.id()),
+                c -> log.warn("Normalized key collision: units.unit_id={} key='{}' conflicts with unit_id={}",
+                        c.id(), c.first(), jdbcTemplate.queryForList(UNIT_CONFLICT_SQL, Long.class, c.first(), c.id())));
+    }
+
+    Result backfillCharacters() {
+        List<Change> changes = new ArrayList<>();
+        int scanned = 0;
+        long after = 0;
+        while (true) {
+            List<Object[]> rows = jdbcTemplate.query(CHARACTER_SELECT_SQL, (rs, i) -> new Object[]{
+                    rs.getLong(1), rs.getString(2), rs.getString(3), rs.getString(4), rs.getString(5)},
+                    after, properties.batchSize());
+            for (Object[] row : rows) {
+                String orig = NormalizeUtil.normalize((String) row[1]);
+                String kor = NormalizeUtil.normalize((String) row[2]);
+                if (!Objects.equals(orig, row[3]) || !Objects.equals(kor, row[4])) {
+                    changes.add(new Change((Long) row[0], orig, kor));
+                }
+            }
+            scanned += rows.size();
+            if (rows.size() < properties.batchSize()) break;
+            after = (Long) rows.getLast()[0];
+        }
+        return apply(scanned, changes,
+                c -> jdbcTemplate.update(CHARACTER_UPDATE_SQL, c.first(), c.second(), c.id()),
+                c -> log.warn("Normalized key collision: characters.character_id={} names=('{}', '{}') conflicts with character_id={}",
+                        c.id(), c.first(), c.second(),
+                        jdbcTemplate.queryForList(CHARACTER_CONFLICT_SQL, Long.class, c.first(), c.second(), c.id())));
+    }
+
+    /**
+     * 변경 행을 하나씩 UPDATE. 유니크 충돌 행은 한 번 더 시도
+     * (A: x→y, B: y→z 처럼 다른 행이 먼저 비켜줘야 하는 경우) 후에도 실패하면 충돌로 보고.
+     */
+    private static Result apply(int scanned, List<Change> changes,
+                                Consumer<Change> update,
+                                Consumer<Change> report) {
+        int updated = 0;
+        List<Change> retry = new ArrayList<>();
+        for (Change c : changes) {
+            if (tryUpdate(update, c)) updated++;
+            else retry.add(c);
+        }
+        int collisions = 0;
+        for (Change c : retry) {
+            if (tryUpdate(update, c)) {
+                updated++;
+            } else {
+                report.accept(c);
+                collisions++;
+            }
+        }
+        return new Result(scanned, updated, collisions);
+    }
+
+    private static boolean tryUpdate(Consumer<Change> update, Change c) {
+        try {
+            update.accept(c);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
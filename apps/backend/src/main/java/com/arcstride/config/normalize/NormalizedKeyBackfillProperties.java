@@ -0,0 +1,17 @@
+package com.arcstride.config.normalize;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * normalized_* 컬럼 재정규화 (1회성) 설정.
+ * 정규화 규칙 변경(NFKC 추가) 후 한 번 켜서 배포하고, 완료 로그 확인 후 다시 끔.
+ *
+ * @param enabled    기동 완료 시 실행 여부
+ * @param batchSize  키셋 조회 1회에 읽을 행 수
+ */
+@ConfigurationProperties("arcstride.normalized-key-backfill")
+public record NormalizedKeyBackfillProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int batchSize
+) {}
@@ -0,0 +1,21 @@
+package com.arcstride.config.outbox;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 아웃박스 이벤트 소비자 (빈으로 등록하면 OutboxDispatcher가 수집).
+ *
+ * - 최소 1회 전달: 실패하거나 다른 소비자가 실패한 집계는 다시 전달되므로 handle은 멱등이어야 함
+ * - events는 배치 안에서 event_id 오름차순. event_id는 커밋 순서가 아니므로 집계 간/배치 간 순서에 기대지 말 것
+ * - 예외를 던지면 집계별로 나눠 재시도하고, 그래도 실패한 집계의 이벤트만 다음 주기로 남김
+ */
+public interface OutboxConsumer {
+
+    /** 소비자 이름 (로그/지표 태그) */
+    String name();
+
+    Set<OutboxEventType> eventTypes();
+
+    void handle(List<OutboxEvent> events);
+}
@@ -0,0 +1,253 @@
+package com.arcstride.config.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 이벤트 전달기.
+ *
+ * - 여러 인스턴스 중 하나만 전달: MySQL 이름 락(GET_LOCK)을 잡은 커넥션을 전달 동안 유지
+ * - event_id 순으로 배치 조회 → 소비자별로 해당 타입만 골라 handle (소비자 트랜잭션은 각자 관리)
+ * - 소비자가 실패하면 집계 단위로 나눠 재시도, 끝내 실패한 집계의 이벤트만 남기고 나머지는 삭제
+ *   남긴 이벤트는 attempts + 1, next_attempt_at = 지금 + retryBackoff * 2^(attempts) (maxRetryBackoff 상한)
+ *   → 장애 중인 소비자를 폴링 주기마다 두드리지 않음. 실패한 집계는 같은 주기의 다음 배치에서도 건너뜀
+ * - 대기 중(next_attempt_at > 지금)인 이벤트가 있는 집계는 그 뒤 이벤트도 조회하지 않음
+ *   → 이미 보이는 이벤트끼리는 같은 집계의 뒤 이벤트가 재시도 중인 앞 이벤트를 추월하지 않음
+ * - maxAttempts만큼 실패한 이벤트는 outbox_dead_letters로 옮기고 삭제 (운영자가 확인 후 다시 넣을 수 있음)
+ * - 순서는 커밋 순서가 아님: event_id는 INSERT 시점에 정해지므로, 늦게 커밋된 작은 event_id가
+ *   같은 집계의 더 큰 event_id보다 나중에 전달될 수 있음 (빠뜨리지는 않음, 커서가 아닌 삭제 방식).
+ *   소비자는 순서에 기대지 않고 원본에서 다시 집계해야 함
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final String LOCK_NAME = "arcstride_outbox";
+    private static final String SELECT_SQL = """
+        SELECT o.event_id, o.event_type, o.aggregate_id, o.payload, o.attempts, o.created_at
+        FROM outbox_events o
+        WHERE o.next_attempt_at <= CURRENT_TIMESTAMP(3)
+          AND NOT EXISTS (
+            SELECT 1 FROM outbox_events w
+            WHERE w.aggregate_type = o.aggregate_type
+              AND w.aggregate_id = o.aggregate_id
+              AND w.event_id < o.event_id
+              AND w.next_attempt_at > CURRENT_TIMESTAMP(3))
+        ORDER BY o.event_id
+        LIMIT ?
+        """;
+    private static final String RETRY_SQL = """
+        UPDATE outbox_events
+        SET attempts = attempts + 1, next_attempt_at = TIMESTAMPADD(MICROSECOND, ?, CURRENT_TIMESTAMP(3))
+        WHERE event_id = ?
+        """;
+    private static final String DEAD_LETTER_SQL = """
+        INSERT IGNORE INTO outbox_dead_letters
+          (event_id, aggregate_type, aggregate_id, event_type, payload, attempts, created_at)
+        SELECT event_id, aggregate_type, aggregate_id, event_type, payload, attempts + 1, created_at
+        FROM outbox_events
+        WHERE event_id IN (%s)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+    private final List<OutboxConsumer> consumers;
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter deadLettered;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public OutboxDispatcher(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, OutboxProperties properties,
+                            List<OutboxConsumer> consumers, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.consumers = consumers;
+        this.delivered = counter(registry, "delivered");
+        this.failed = counter(registry, "failed");
+        this.deadLettered = counter(registry, "dead_lettered");
+        log.info("Outbox consumers: {}", consumers.stream().map(OutboxConsumer::name).toList());
+    }
+
+    @Scheduled(fixedDelayString = "${arcstride.outbox.poll-interval:500ms}")
+    public void dispatch() {
+        if (!runLock.tryLock()) return;
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+                if (!acquire(con)) return null;   // 다른 인스턴스가 전달 중
+                try {
+                    Set<String> failedAggregates = new HashSet<>();
+                    for (int i = 0; i < properties.maxBatchesPerRun(); i++) {
+                        if (dispatchBatch(failedAggregates) < properties.batchSize()) break;
+                    }
+                } finally {
+                    release(con);
+                }
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Outbox dispatch failed, will retry", ex);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * @param failedAggregates 이번 주기에 실패한 집계 (배치 간 공유). 이 집계의 이벤트는 건드리지 않고 다음 주기로 넘김
+     * @return 조회한 이벤트 수 (처리할 이벤트가 없으면 0)
+     */
+    private int dispatchBatch(Set<String> failedAggregates) {
+        List<OutboxEvent> fetched = jdbcTemplate.query(SELECT_SQL, rowMapper(), properties.batchSize());
+        Set<String> failedBefore = Set.copyOf(failedAggregates);
+        List<OutboxEvent> batch = fetched.stream()
+                .filter(e -> !failedBefore.contains(e.aggregateKey()))
+                .toList();
+        if (batch.isEmpty()) return 0;   // 전부 이번 주기에 실패한 집계 → 같은 행을 다시 조회하지 않고 종료
+
+        for (OutboxConsumer consumer : consumers) {
+            List<OutboxEvent> mine = batch.stream()
+                    .filter(e -> consumer.eventTypes().contains(e.type()))
+                    .filter(e -> !failedAggregates.contains(e.aggregateKey()))
+                    .toList();
+            if (!mine.isEmpty()) deliver(consumer, mine, failedAggregates);
+        }
+
+        List<Long> done = new ArrayList<>();
+        List<Long> dead = new ArrayList<>();
+        List<OutboxEvent> retry = new ArrayList<>();
+        for (OutboxEvent e : batch) {
+            if (!failedAggregates.contains(e.aggregateKey())) {
+                done.add(e.eventId());
+            } else if (e.attempts() + 1 >= properties.maxAttempts()) {
+                log.error("Outbox event moved to dead letters after {} attempts: id={}, type={}, aggregateId={}, payload={}",
+                        e.attempts() + 1, e.eventId(), e.type(), e.aggregateId(), e.payload());
+                dead.add(e.eventId());
+            } else {
+                retry.add(e);
+            }
+        }
+        moveToDeadLetters(dead);
+        delete(done);
+        if (!retry.isEmpty()) {
+            jdbcTemplate.batchUpdate(RETRY_SQL, retry.stream()
+                    .map(e -> new Object[]{backoff(e.attempts()).toNanos() / 1_000, e.eventId()})
+                    .toList());
+        }
+        delivered.increment(done.size());
+        return fetched.size();
+    }
+
+    /** 배치 전체 → 실패 시 집계별로 재시도 */
+    private void deliver(OutboxConsumer consumer, List<OutboxEvent> events, Set<String> failedAggregates) {
+        try {
+            consumer.handle(events);
+            return;
+        } catch (RuntimeException ex) {
+            log.warn("Outbox consumer {} failed on batch of {}, retrying per aggregate", consumer.name(), events.size(), ex);
+        }
+        Map<String, List<OutboxEvent>> byAggregate = events.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::aggregateKey, LinkedHashMap::new, Collectors.toList()));
+        for (Map.Entry<String, List<OutboxEvent>> group : byAggregate.entrySet()) {
+            try {
+                consumer.handle(group.getValue());
+            } catch (RuntimeException ex) {
+                failed.increment(group.getValue().size());
+                failedAggregates.add(group.getKey());
+                log.warn("Outbox consumer {} failed: aggregate={}, events={}", consumer.name(), group.getKey(),
+                        group.getValue().stream().map(OutboxEvent::eventId).toList(), ex);
+            }
+        }
+    }
+
+    /** attempts번 실패한 뒤 다음 시도까지 대기: retryBackoff * 2^attempts, maxRetryBackoff 상한 */
+    private Duration backoff(int attempts) {
+        Duration max = properties.maxRetryBackoff();
+        Duration delay = properties.retryBackoff();
+        for (int i = 0; i < attempts && delay.compareTo(max) < 0; i++) {
+            delay = delay.multipliedBy(2);
+        }
+        return delay.compareTo(max) < 0 ? delay : max;
+    }
+
+    /** 복사 후 삭제 (복사 직후 중단되어 다시 옮겨도 INSERT IGNORE로 중복 없음) */
+    private void moveToDeadLetters(List<Long> ids) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.update(DEAD_LETTER_SQL.formatted(placeholders(ids)), ids.toArray());
+        delete(ids);
+        deadLettered.increment(ids.size());
+    }
+
+    private void delete(List<Long> ids) {
+        if (ids.isEmpty()) return;
+        jdbcTemplate.update("DELETE FROM outbox_events WHERE event_id IN (" + placeholders(ids) + ")", ids.toArray());
+    }
+
+    private static String placeholders(List<Long> ids) {
+        return ids.stream().map(id -> "?").collect(Collectors.joining(","));
+    }
+
+    private RowMapper<OutboxEvent> rowMapper() {
+        return (rs, i) -> {
+            String payload = rs.getString("payload");
+            return new OutboxEvent(
+                    rs.getLong("event_id"),
+                    OutboxEventType.valueOf(rs.getString("event_type")),
+                    rs.getLong("aggregate_id"),
+                    payload != null ? objectMapper.readTree(payload) : objectMapper.nullNode(),
+                    rs.getInt("attempts"),
+                    rs.getTimestamp("created_at").toInstant());
+        };
+    }
+
+    private static boolean acquire(Connection con) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, LOCK_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void release(Connection con) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        }
+    }
+
+    /** 종료 직전 남은 이벤트 1회 전달 시도 (실패해도 다음 기동 시 전달) */
+    @PreDestroy
+    void shutdown() {
+        dispatch();
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("arcstride.outbox.events")
+                .description("아웃박스 이벤트 전달 결과")
+                .tag("result", result)
+                .register(registry);
+    }
+}
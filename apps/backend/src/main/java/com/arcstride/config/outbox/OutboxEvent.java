@@ -0,0 +1,25 @@
+package com.arcstride.config.outbox;
+
+import tools.jackson.databind.JsonNode;
+
+import java.time.Instant;
+
+/**
+ * 전달 대상 아웃박스 이벤트.
+ *
+ * @param attempts  이전 전달 실패 횟수 (재전달이면 1 이상)
+ */
+public record OutboxEvent(
+        long eventId,
+        OutboxEventType type,
+        long aggregateId,
+        JsonNode payload,
+        int attempts,
+        Instant createdAt
+) {
+
+    /** 같은 집계 판별 키 (예: TITLE:12) */
+    public String aggregateKey() {
+        return type.aggregate().name() + ":" + aggregateId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.arcstride.config.outbox;
+
+/**
+ * 아웃박스 이벤트 종류와 집계(aggregate) 단위.
+ * 같은 집계(aggregateType + aggregateId)의 이벤트는 event_id 순서로 전달됨.
+ */
+public enum OutboxEventType {
+
+    TITLE_CREATED(Aggregate.TITLE),
+    ALIAS_ADDED(Aggregate.TITLE),
+    ALIAS_DELETED(Aggregate.TITLE),
+    UNIT_CREATED(Aggregate.TITLE),
+    UNIT_REORDERED(Aggregate.TITLE),
+    CHARACTER_CREATED(Aggregate.TITLE),
+    REVIEW_CHANGED(Aggregate.TITLE),
+    COMMENT_CHANGED(Aggregate.TITLE),
+    COMMENT_DELETED(Aggregate.TITLE),
+    PROGRESS_CHANGED(Aggregate.USER);
+
+    public enum Aggregate { TITLE, USER }
+
+    private final Aggregate aggregate;
+
+    OutboxEventType(Aggregate aggregate) {
+        this.aggregate = aggregate;
+    }
+
+    public Aggregate aggregate() {
+        return aggregate;
+    }
+}
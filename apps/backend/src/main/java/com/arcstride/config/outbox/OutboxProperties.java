@@ -0,0 +1,27 @@
+package com.arcstride.config.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 아웃박스 전달 설정.
+ *
+ * @param pollInterval      빈 큐일 때 다음 조회까지 대기 (가득 찬 배치는 즉시 이어서 처리)
+ * @param batchSize         1회 조회/전달 이벤트 수
+ * @param maxBatchesPerRun  한 주기에 처리할 최대 배치 수
+ * @param maxAttempts       이 횟수만큼 실패한 이벤트는 에러 로그 후 outbox_dead_letters로 이동
+ * @param retryBackoff      첫 실패 후 재시도까지 대기 (실패할 때마다 2배)
+ * @param maxRetryBackoff   재시도 대기 상한
+ */
+@ConfigurationProperties("arcstride.outbox")
+public record OutboxProperties(
+        @DefaultValue("500ms") Duration pollInterval,
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("10") int maxBatchesPerRun,
+        @DefaultValue("10") int maxAttempts,
+        @DefaultValue("1s") Duration retryBackoff,
+        @DefaultValue("5m") Duration maxRetryBackoff
+) {
+}
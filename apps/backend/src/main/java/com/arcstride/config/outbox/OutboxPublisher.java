@@ -0,0 +1,37 @@
+package com.arcstride.config.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에서 outbox_events에 이벤트 기록.
+ * 커밋되어야 전달 대상이 되며, 롤백되면 이벤트도 함께 사라짐.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPublisher {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** 트랜잭션 밖에서 호출하면 IllegalTransactionStateException (도메인 변경 없이 이벤트만 남는 것 방지) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Long aggregateId, Map<String, ?> payload) {
+        String json = payload == null || payload.isEmpty() ? null : objectMapper.writeValueAsString(payload);
+        jdbcTemplate.update(INSERT_SQL, type.aggregate().name(), aggregateId, type.name(), json);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxEventType type, Long aggregateId) {
+        append(type, aggregateId, null);
+    }
+}
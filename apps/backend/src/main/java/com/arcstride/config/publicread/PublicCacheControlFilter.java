@@ -0,0 +1,97 @@
+package com.arcstride.config.publicread;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 공개 조회 응답의 공유 캐시 헤더.
+ *
+ * - 컨트롤러가 Cache-Control을 정하지 않은 2xx/304: ETag가 있으면 public, no-cache(재검증), 없으면 public, max-age
+ *   (noCachePaths는 ETag가 없어도 public, no-cache → CDN이 매번 원본에서 받음)
+ * - 컨트롤러가 no-cache 등을 정했으면 public만 앞에 붙임 (private/no-store는 그대로)
+ * - 4xx/5xx는 no-store (에러가 CDN에 남지 않도록)
+ * - 응답 커밋 직전에 결정 (본문 없는 304/204는 필터 종료 시)
+ */
+public class PublicCacheControlFilter extends OncePerRequestFilter {
+
+    private static final String NO_CACHE = "public, no-cache";
+
+    private final String maxAgeDirective;
+    private final List<PathPattern> noCachePaths;
+    private final String vary;
+
+    public PublicCacheControlFilter(PublicReadProperties properties) {
+        this.maxAgeDirective = "public, max-age=" + properties.maxAge().toSeconds();
+        this.noCachePaths = properties.noCachePaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.vary = String.join(", ", properties.vary());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        CacheHeaderResponse wrapped = new CacheHeaderResponse(response, noCache(request) ? NO_CACHE : maxAgeDirective);
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            if (!response.isCommitted()) {
+                wrapped.applyCacheHeaders();
+            }
+        }
+    }
+
+    private boolean noCache(HttpServletRequest request) {
+        if (noCachePaths.isEmpty()) return false;
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (PathPattern p : noCachePaths) {
+            if (p.matches(path)) return true;
+        }
+        return false;
+    }
+
+    private final class CacheHeaderResponse extends OnCommittedResponseWrapper {
+
+        private final String defaultDirective;
+        private boolean applied;
+
+        CacheHeaderResponse(HttpServletResponse response, String defaultDirective) {
+            super(response);
+            this.defaultDirective = defaultDirective;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            applyCacheHeaders();
+        }
+
+        void applyCacheHeaders() {
+            if (applied) return;
+            applied = true;
+            if (!vary.isEmpty() && !getHeaders(HttpHeaders.VARY).contains(vary)) {
+                addHeader(HttpHeaders.VARY, vary);
+            }
+
+            int status = getStatus();
+            String current = getHeader(HttpHeaders.CACHE_CONTROL);
+            if (status >= 400) {
+                setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            } else if (current == null || current.isBlank()) {
+                setHeader(HttpHeaders.CACHE_CONTROL,
+                        getHeader(HttpHeaders.ETAG) != null ? NO_CACHE : defaultDirective);
+            } else if (!current.contains("public") && !current.contains("private") && !current.contains("no-store")) {
+                setHeader(HttpHeaders.CACHE_CONTROL, "public, " + current);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.arcstride.config.publicread;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 비로그인 공개 조회 전용 보안 체인 설정.
+ * 세션 쿠키가 없는 GET/HEAD 요청 중 paths에 일치하는 것만 이 체인으로 처리 (세션/CSRF 없음, 공유 캐시 허용).
+ *
+ * @param enabled  false면 모든 요청이 기본 체인으로
+ * @param paths    PathPattern 목록 (조회수 집계/스트리밍처럼 캐시되면 안 되는 경로는 넣지 않음)
+ * @param maxAge   검증자(ETag) 없는 응답의 Cache-Control: public, max-age
+ * @param noCachePaths paths 중 max-age 대신 항상 public, no-cache로 내보낼 경로
+ *                     (댓글/리뷰처럼 작성 직전 목록이 CDN에 남으면 작성자가 자기 글을 못 보는 경로)
+ * @param vary     응답 Vary 헤더 (CDN 캐시 키)
+ */
+@ConfigurationProperties("arcstride.public-read")
+public record PublicReadProperties(
+        @DefaultValue("true") boolean enabled,
+        List<String> paths,
+        @DefaultValue("60s") Duration maxAge,
+        List<String> noCachePaths,
+        @DefaultValue("Accept-Encoding") List<String> vary
+) {
+
+    public PublicReadProperties {
+        paths = paths != null ? paths : List.of();
+        noCachePaths = noCachePaths != null ? noCachePaths : List.of();
+    }
+}
@@ -0,0 +1,51 @@
+package com.arcstride.config.publicread;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+
+/**
+ * 공개 조회 체인 대상 판별.
+ * 쿠키 헤더만 보고 판단하므로 세션 저장소 조회가 일어나지 않음.
+ * 세션 쿠키가 있으면(로그인 사용자, 방금 쓰기한 사용자) 기본 체인 → read-your-writes/세션 갱신 유지.
+ */
+public class PublicReadRequestMatcher implements RequestMatcher {
+
+    private final List<PathPattern> patterns;
+    private final String sessionCookieName;
+
+    public PublicReadRequestMatcher(PublicReadProperties properties, String sessionCookieName) {
+        this.patterns = properties.enabled()
+                ? properties.paths().stream().map(PathPatternParser.defaultInstance::parse).toList()
+                : List.of();
+        this.sessionCookieName = sessionCookieName;
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        if (patterns.isEmpty()) return false;
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) return false;
+        if (hasSessionCookie(request)) return false;
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (PathPattern p : patterns) {
+            if (p.matches(path)) return true;
+        }
+        return false;
+    }
+
+    private boolean hasSessionCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return false;
+        for (Cookie c : cookies) {
+            if (sessionCookieName.equals(c.getName())) return true;
+        }
+        return false;
+    }
+}
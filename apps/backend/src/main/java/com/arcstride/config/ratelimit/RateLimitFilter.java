@@ -0,0 +1,104 @@
+package com.arcstride.config.ratelimit;
+
+import com.arcstride.common.dto.ErrorResponse;
+import com.arcstride.security.service.UserIdResolver;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트 그룹별 요청 속도 제한.
+ * 로그인 사용자는 세션의 userId, 그 외는 클라이언트 IP로 구분
+ * (forward-headers-strategy: framework → getRemoteAddr()가 X-Forwarded-For 반영).
+ * 한도 초과 시 429 + Retry-After(초).
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final List<Route> routes = new ArrayList<>();
+
+    private record Route(String name, List<PathPattern> patterns, List<String> methods, RateLimitProperties.Group group) {
+        boolean matches(String method, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(method)) return false;
+            for (PathPattern p : patterns) {
+                if (p.matches(path)) return true;
+            }
+            return false;
+        }
+    }
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimiter rateLimiter, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        if (!properties.enabled()) return;
+        for (Map.Entry<String, RateLimitProperties.Group> e : properties.groups().entrySet()) {
+            RateLimitProperties.Group group = e.getValue();
+            List<PathPattern> patterns = group.paths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+            routes.add(new Route(e.getKey(), patterns, group.methods().stream().map(String::toUpperCase).toList(), group));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Route route = match(request);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(new RateLimiter.Key(route.name(), clientKey(request)), route.group());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.debug("Rate limited: group={}, {} {} (remote={})",
+                route.name(), request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+        response.setStatus(429);
+        response.setHeader("Retry-After", String.valueOf(retryAfter));
+        response.setHeader("Cache-Control", "no-store");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(),
+                ErrorResponse.of("RATE_LIMITED", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+    }
+
+    private Route match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (Route route : routes) {
+            if (route.matches(request.getMethod(), path)) return route;
+        }
+        return null;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        Object userId = session != null ? session.getAttribute(UserIdResolver.SESSION_USER_ID) : null;
+        return userId != null ? "u:" + userId : "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,48 @@
+package com.arcstride.config.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 속도 제한 설정.
+ * groups는 선언 순서대로 검사하며 처음 일치한 그룹의 버킷만 사용 (어느 그룹에도 없으면 제한 없음).
+ *
+ * @param enabled  전체 on/off
+ * @param maxKeys  메모리에 유지할 버킷 수 상한 (초과 시 가득 찬/오래된 버킷부터 제거)
+ * @param idleTtl  마지막 요청 후 이 시간이 지난 버킷은 제거
+ * @param groups   라우트 그룹별 한도
+ */
+@ConfigurationProperties("arcstride.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("50000") int maxKeys,
+        @DefaultValue("10m") Duration idleTtl,
+        Map<String, Group> groups
+) {
+
+    public RateLimitProperties {
+        groups = groups != null ? groups : Map.of();
+    }
+
+    /**
+     * @param paths     PathPattern 목록 (예: /api/titles/search, /api/**)
+     * @param methods   비어 있으면 모든 메서드
+     * @param capacity  버스트 허용량 (버킷 크기)
+     * @param refill    capacity만큼 다시 채워지는 데 걸리는 시간
+     */
+    public record Group(
+            List<String> paths,
+            List<String> methods,
+            @DefaultValue("60") int capacity,
+            @DefaultValue("1m") Duration refill
+    ) {
+        public Group {
+            paths = paths != null ? paths : List.of();
+            methods = methods != null ? methods : List.of();
+        }
+    }
+}
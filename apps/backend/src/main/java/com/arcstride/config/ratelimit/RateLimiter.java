@@ -0,0 +1,113 @@
+package com.arcstride.config.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 키(그룹 + userId/IP)별 토큰 버킷.
+ *
+ * - 버킷 상태는 불변 record를 AtomicReference CAS로 교체 (락 없음)
+ * - 토큰은 마지막 갱신 시각 기준으로 소비 시점에 보충 (별도 타이머 없음)
+ * - 가득 찬 버킷은 없는 버킷과 같으므로 idle 정리/상한 초과 시 제거해도 한도가 느슨해지지 않음
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final ConcurrentHashMap<Key, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    public record Key(String group, String client) {}
+
+    /**
+     * 토큰 1개 소비 시도.
+     * @return 0이면 허용, 양수면 다음 토큰까지 기다려야 하는 나노초
+     */
+    public long tryAcquire(Key key, RateLimitProperties.Group group) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= properties.maxKeys()) trim();
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(group.capacity(),
+                    (double) group.capacity() / group.refill().toNanos()));
+        }
+        return bucket.tryConsume(System.nanoTime());
+    }
+
+    /** 오래 쓰이지 않은 버킷 정리 */
+    @Scheduled(fixedDelayString = "${arcstride.rate-limit.sweep-interval:1m}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = properties.idleTtl().toNanos();
+        buckets.values().removeIf(b -> now - b.state.get().updatedAt > idleNanos || b.isFull(now));
+    }
+
+    /** 상한 초과: 가득 찬 버킷 → 가장 오래된 버킷 순으로 제거 (한 번에 한 스레드만) */
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) return;
+        try {
+            long now = System.nanoTime();
+            buckets.values().removeIf(b -> b.isFull(now));
+            int overflow = buckets.size() - properties.maxKeys() * 9 / 10;
+            if (overflow > 0) {
+                buckets.entrySet().stream()
+                        .sorted(Comparator.comparingLong(e -> e.getValue().state.get().updatedAt))
+                        .limit(overflow)
+                        .map(Map.Entry::getKey)
+                        .toList()
+                        .forEach(buckets::remove);
+                log.warn("Rate limit buckets over capacity, evicted oldest: {}", overflow);
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private static final class Bucket {
+
+        private record State(double tokens, long updatedAt) {}
+
+        private final double capacity;
+        private final double tokensPerNano;
+        private final AtomicReference<State> state;
+
+        Bucket(double capacity, double tokensPerNano) {
+            this.capacity = capacity;
+            this.tokensPerNano = tokensPerNano;
+            this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+        }
+
+        long tryConsume(long now) {
+            while (true) {
+                State current = state.get();
+                double tokens = refilled(current, now);
+                if (tokens < 1) {
+                    return (long) Math.ceil((1 - tokens) / tokensPerNano);
+                }
+                if (state.compareAndSet(current, new State(tokens - 1, Math.max(now, current.updatedAt)))) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return refilled(state.get(), now) >= capacity;
+        }
+
+        private double refilled(State s, long now) {
+            long elapsed = Math.max(0, now - s.updatedAt);
+            return Math.min(capacity, s.tokens + elapsed * tokensPerNano);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.arcstride.config.responsecache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 버전이 붙은 공개 조회 응답의 직렬화 결과(JSON 바이트, 선택적으로 gzip 사본) 캐시.
+ *
+ * - 항목은 리소스 키(예: units:12:EPISODE)당 1개, ETag가 같을 때만 적중 → 버전이 바뀌면 자연히 교체
+ * - 적중 시 DTO 생성/Jackson 직렬화 없이 바이트를 서블릿 출력 스트림에 바로 기록
+ * - 미스 시 body를 만들어 HTTP 메시지 컨버터와 같은 ObjectMapper로 1회 직렬화 후 저장
+ *   (동시 미스는 각자 직렬화하고 마지막 결과가 남음, 내용은 동일)
+ * - 호출 전에 checkNotModified로 ETag/Last-Modified 헤더를 기록해 두어야 함
+ */
+@Component
+public class EncodedResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final ResponseCacheProperties properties;
+    private final Counter hits;
+    private final Counter misses;
+
+    /** access-order LRU, 바이트 합계(usedBytes)로 제한. 갱신은 synchronized 안에서, 지표는 락 없이 읽음 */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final AtomicLong usedBytes = new AtomicLong();
+
+    private record Entry(String etag, byte[] json, byte[] gzip) {
+        long size() {
+            return json.length + (gzip != null ? gzip.length : 0);
+        }
+    }
+
+    public EncodedResponseCache(ObjectMapper objectMapper, ResponseCacheProperties properties, MeterRegistry registry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.hits = counter(registry, "hit");
+        this.misses = counter(registry, "miss");
+        Gauge.builder("arcstride.response.cache.bytes", usedBytes, AtomicLong::get)
+                .description("직렬화 응답 캐시 바이트")
+                .register(registry);
+    }
+
+    /** 200 응답 본문 기록 (Cache-Control: no-cache → 매번 ETag 재검증) */
+    public void write(ServletWebRequest webRequest, String key, String etag, Supplier<?> body) throws IOException {
+        Entry entry = properties.enabled() ? lookup(key, etag) : null;
+        if (entry != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            entry = encode(etag, body.get(), properties.enabled());
+            if (properties.enabled()) store(key, entry);
+        }
+
+        HttpServletRequest request = webRequest.getRequest();
+        HttpServletResponse response = webRequest.getResponse();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        byte[] out = entry.json();
+        if (entry.gzip() != null && acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            out = entry.gzip();
+        }
+        response.setContentLength(out.length);
+        try (OutputStream os = response.getOutputStream()) {
+            os.write(out);
+        }
+    }
+
+    private synchronized Entry lookup(String key, String etag) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.etag().equals(etag) ? entry : null;
+    }
+
+    private synchronized void store(String key, Entry entry) {
+        long max = properties.maxBytes().toBytes();
+        if (entry.size() > max) return;
+        Entry previous = entries.put(key, entry);
+        long used = usedBytes.addAndGet(entry.size() - (previous != null ? previous.size() : 0));
+
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (used > max && it.hasNext()) {
+            Map.Entry<String, Entry> eldest = it.next();
+            used = usedBytes.addAndGet(-eldest.getValue().size());
+            it.remove();
+        }
+    }
+
+    /** 저장하지 않을 응답(캐시 비활성)은 gzip 사본을 만들지 않음 (압축은 프록시에 맡김) */
+    private Entry encode(String etag, Object body, boolean withGzip) {
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        byte[] gzip = withGzip && json.length >= properties.gzipMinSize().toBytes() ? gzip(json) : null;
+        return new Entry(etag, json, gzip != null && gzip.length < json.length ? gzip : null);
+    }
+
+    /** 1회만 압축하므로 최고 압축률 사용 */
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out, 8192) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gz.write(raw);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /** Accept-Encoding에 gzip이 있고 q=0으로 거부하지 않은 경우 */
+    static boolean acceptsGzip(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (header == null) return false;
+        for (String part : header.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) continue;
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=") && isZero(param.substring(2))) return false;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZero(String q) {
+        try {
+            return Double.parseDouble(q.trim()) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("arcstride.response.cache")
+                .description("직렬화 응답 캐시 조회")
+                .tag("result", result)
+                .register(registry);
+    }
+}
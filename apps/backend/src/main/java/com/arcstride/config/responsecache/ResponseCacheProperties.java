@@ -0,0 +1,20 @@
+package com.arcstride.config.responsecache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 직렬화된 JSON 응답 캐시 설정.
+ *
+ * @param enabled       false면 매 요청 직렬화 (출력 방식은 동일)
+ * @param maxBytes      보관할 본문 바이트 합계 상한 (JSON + gzip, 초과 시 오래 안 쓴 항목부터 제거)
+ * @param gzipMinSize   이 크기 이상인 본문만 gzip 사본을 미리 만들어 둠
+ */
+@ConfigurationProperties("arcstride.response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("32MB") DataSize maxBytes,
+        @DefaultValue("1KB") DataSize gzipMinSize
+) {
+}
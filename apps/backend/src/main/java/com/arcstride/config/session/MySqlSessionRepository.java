@@ -0,0 +1,367 @@
+package com.arcstride.config.session;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ConfigurableObjectInputStream;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * http_sessions 테이블 기반 Spring Session 저장소.
+ *
+ * - 속성: Java 직렬화 Map을 DEFLATE로 압축해 1개 BLOB에 저장 (속성이 바뀐 요청만 기록)
+ * - hot tier: 최근 세션 스냅샷을 LRU로 보관, hotTtl 이내면 BLOB 조회/역직렬화 생략
+ *   단, 매 조회마다 PK로 attributes_version/last_access_time만 확인 → 다른 인스턴스의 로그아웃(삭제),
+ *   속성 변경, 접근 시각 갱신을 바로 반영 (다중 인스턴스에서도 오래된 스냅샷을 쓰지 않음)
+ * - last-access만 바뀐 요청은 메모리에 모았다가 주기적으로 batch UPDATE
+ * - 만료 세션은 expiry_time 인덱스로 작은 배치씩 삭제
+ */
+@Slf4j
+public class MySqlSessionRepository implements SessionRepository<MySqlSessionRepository.DbSession> {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO http_sessions (session_id, creation_time, last_access_time, max_inactive_seconds, expiry_time, attributes)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+    private static final String UPDATE_SQL = """
+            UPDATE http_sessions
+            SET session_id = ?, last_access_time = ?, max_inactive_seconds = ?, expiry_time = ?, attributes = ?,
+                attributes_version = attributes_version + 1
+            WHERE session_id = ?
+            """;
+    private static final String RENAME_SQL = "UPDATE http_sessions SET session_id = ? WHERE session_id = ?";
+    private static final String TOUCH_SQL = """
+            UPDATE http_sessions
+            SET last_access_time = GREATEST(last_access_time, ?), expiry_time = GREATEST(expiry_time, ?)
+            WHERE session_id = ?
+            """;
+    private static final String SELECT_SQL = """
+            SELECT creation_time, last_access_time, max_inactive_seconds, attributes, attributes_version
+            FROM http_sessions WHERE session_id = ?
+            """;
+    private static final String REVALIDATE_SQL =
+            "SELECT last_access_time, attributes_version FROM http_sessions WHERE session_id = ?";
+    private static final String DELETE_SQL = "DELETE FROM http_sessions WHERE session_id = ?";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM http_sessions WHERE expiry_time < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionStoreProperties properties;
+    private final ClassLoader classLoader = MySqlSessionRepository.class.getClassLoader();
+
+    private final Map<String, HotEntry> hot;
+    private final ConcurrentHashMap<String, Long> pendingTouches = new ConcurrentHashMap<>();
+
+    /** version: 스냅샷이 반영한 attributes_version */
+    private record HotEntry(MapSession snapshot, long version, long loadedAtNanos) {}
+
+    private record Loaded(MapSession session, long version) {}
+
+    private record RowStamp(long lastAccessTime, long version) {}
+
+    public MySqlSessionRepository(JdbcTemplate jdbcTemplate, SessionStoreProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        int max = properties.hotMaxEntries();
+        this.hot = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, HotEntry> eldest) {
+                return size() > max;
+            }
+        });
+    }
+
+    @Override
+    public DbSession createSession() {
+        MapSession session = new MapSession();
+        session.setMaxInactiveInterval(properties.timeout());
+        return new DbSession(session, 0, true);
+    }
+
+    @Override
+    public void save(DbSession session) {
+        MapSession delegate = session.delegate;
+        String id = delegate.getId();
+
+        if (session.isNew) {
+            jdbcTemplate.update(INSERT_SQL, id, delegate.getCreationTime().toEpochMilli(),
+                    delegate.getLastAccessedTime().toEpochMilli(), (int) delegate.getMaxInactiveInterval().toSeconds(),
+                    expiryMillis(delegate), serialize(delegate));
+        } else if (session.attributesChanged) {
+            jdbcTemplate.update(UPDATE_SQL, id, delegate.getLastAccessedTime().toEpochMilli(),
+                    (int) delegate.getMaxInactiveInterval().toSeconds(), expiryMillis(delegate),
+                    serialize(delegate), session.originalId);
+            // 다른 인스턴스도 동시에 썼다면 DB 버전이 더 커서 다음 조회 때 다시 읽음
+            session.version++;
+            pendingTouches.remove(session.originalId);
+        } else {
+            if (!id.equals(session.originalId)) {
+                jdbcTemplate.update(RENAME_SQL, id, session.originalId);
+                Long touched = pendingTouches.remove(session.originalId);
+                if (touched != null) pendingTouches.merge(id, touched, Math::max);
+            }
+            // last-access만 변경: batch로 반영
+            pendingTouches.merge(id, delegate.getLastAccessedTime().toEpochMilli(), Math::max);
+        }
+
+        if (!id.equals(session.originalId)) hot.remove(session.originalId);
+        hot.put(id, new HotEntry(new MapSession(delegate), session.version, System.nanoTime()));
+        session.markSaved();
+    }
+
+    @Override
+    public DbSession findById(String id) {
+        HotEntry entry = hot.get(id);
+        Loaded current;
+        if (entry != null && System.nanoTime() - entry.loadedAtNanos() < properties.hotTtl().toNanos()) {
+            RowStamp stamp = stamp(id);
+            if (stamp == null) {
+                // 다른 인스턴스에서 삭제됨 (로그아웃/무효화/만료 정리)
+                hot.remove(id);
+                return null;
+            }
+            current = stamp.version() == entry.version() ? fromSnapshot(entry, stamp) : loadIntoHot(id);
+        } else {
+            current = loadIntoHot(id);
+        }
+        if (current == null) {
+            hot.remove(id);
+            return null;
+        }
+        MapSession loaded = current.session();
+
+        Long touched = pendingTouches.get(id);
+        if (touched != null && touched > loaded.getLastAccessedTime().toEpochMilli()) {
+            loaded.setLastAccessedTime(Instant.ofEpochMilli(touched));
+        }
+        if (loaded.isExpired()) {
+            deleteById(id);
+            return null;
+        }
+        return new DbSession(loaded, current.version(), false);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        jdbcTemplate.update(DELETE_SQL, id);
+        hot.remove(id);
+        pendingTouches.remove(id);
+    }
+
+    /** last-access 변경분 batch 반영 */
+    @Scheduled(fixedDelayString = "${arcstride.session.touch-flush-interval:5s}")
+    public void flushTouches() {
+        if (pendingTouches.isEmpty()) return;
+        List<Object[]> batch = new ArrayList<>();
+        for (String id : Set.copyOf(pendingTouches.keySet())) {
+            Long lastAccess = pendingTouches.remove(id);
+            if (lastAccess == null) continue;
+            HotEntry entry = hot.get(id);
+            long maxInactive = entry != null
+                    ? entry.snapshot().getMaxInactiveInterval().toMillis()
+                    : properties.timeout().toMillis();
+            batch.add(new Object[]{lastAccess, lastAccess + maxInactive, id});
+        }
+        if (batch.isEmpty()) return;
+        try {
+            jdbcTemplate.batchUpdate(TOUCH_SQL, batch);
+        } catch (RuntimeException ex) {
+            log.warn("Session touch flush failed, will retry: sessions={}", batch.size(), ex);
+            for (Object[] row : batch) {
+                pendingTouches.merge((String) row[2], (Long) row[0], Math::max);
+            }
+        }
+    }
+
+    /** 만료 세션 정리 (배치 단위) */
+    @Scheduled(fixedDelayString = "${arcstride.session.cleanup-interval:1m}")
+    public void deleteExpired() {
+        flushTouches();
+        long now = System.currentTimeMillis();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, now, properties.cleanupBatchSize());
+            total += deleted;
+        } while (deleted == properties.cleanupBatchSize());
+        if (total > 0) log.debug("Expired sessions deleted: {}", total);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushTouches();
+    }
+
+    // ── 내부 구현 ──
+
+    private Loaded loadIntoHot(String id) {
+        List<Loaded> rows = jdbcTemplate.query(SELECT_SQL, (rs, n) -> {
+            MapSession s = new MapSession(id);
+            s.setCreationTime(Instant.ofEpochMilli(rs.getLong("creation_time")));
+            s.setLastAccessedTime(Instant.ofEpochMilli(rs.getLong("last_access_time")));
+            s.setMaxInactiveInterval(Duration.ofSeconds(rs.getInt("max_inactive_seconds")));
+            deserialize(rs.getBytes("attributes")).forEach(s::setAttribute);
+            return new Loaded(s, rs.getLong("attributes_version"));
+        }, id);
+        if (rows.isEmpty()) return null;
+        Loaded loaded = rows.getFirst();
+        hot.put(id, new HotEntry(new MapSession(loaded.session()), loaded.version(), System.nanoTime()));
+        return loaded;
+    }
+
+    /** hot tier 재검증용 PK 조회 (BLOB 제외). null: 행 없음 */
+    private RowStamp stamp(String id) {
+        List<RowStamp> rows = jdbcTemplate.query(REVALIDATE_SQL,
+                (rs, n) -> new RowStamp(rs.getLong("last_access_time"), rs.getLong("attributes_version")), id);
+        return rows.isEmpty() ? null : rows.getFirst();
+    }
+
+    /** 버전이 같으면 스냅샷 복사본 사용. last-access는 다른 인스턴스가 반영한 값이 더 최신일 수 있음 */
+    private static Loaded fromSnapshot(HotEntry entry, RowStamp stamp) {
+        MapSession s = new MapSession(entry.snapshot());
+        if (stamp.lastAccessTime() > s.getLastAccessedTime().toEpochMilli()) {
+            s.setLastAccessedTime(Instant.ofEpochMilli(stamp.lastAccessTime()));
+        }
+        return new Loaded(s, entry.version());
+    }
+
+    private static long expiryMillis(MapSession s) {
+        return s.getLastAccessedTime().plus(s.getMaxInactiveInterval()).toEpochMilli();
+    }
+
+    private static byte[] serialize(MapSession session) {
+        HashMap<String, Object> attributes = new HashMap<>();
+        for (String name : session.getAttributeNames()) {
+            attributes.put(name, session.getAttribute(name));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (ObjectOutputStream out = new ObjectOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeObject(attributes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("세션 직렬화 실패: " + session.getId(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> deserialize(byte[] data) {
+        try (ObjectInputStream in = new ConfigurableObjectInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(data)), classLoader)) {
+            return (Map<String, Object>) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            // 클래스 구조 변경 등으로 복원 불가 → 빈 세션으로 취급 (재로그인)
+            log.warn("Session attributes could not be restored, starting empty", e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * MapSession 래퍼: 새 세션 여부 / 속성 변경 / ID 변경을 추적해 save 시 필요한 만큼만 기록.
+     * version은 읽어 온(또는 마지막으로 쓴) attributes_version.
+     */
+    public static final class DbSession implements Session {
+
+        private final MapSession delegate;
+        private long version;
+        private boolean isNew;
+        private boolean attributesChanged;
+        private String originalId;
+
+        DbSession(MapSession delegate, long version, boolean isNew) {
+            this.delegate = delegate;
+            this.version = version;
+            this.isNew = isNew;
+            this.originalId = delegate.getId();
+        }
+
+        void markSaved() {
+            isNew = false;
+            attributesChanged = false;
+            originalId = delegate.getId();
+        }
+
+        @Override
+        public String getId() {
+            return delegate.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            return delegate.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return delegate.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return delegate.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            delegate.setAttribute(attributeName, attributeValue);
+            attributesChanged = true;
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            delegate.removeAttribute(attributeName);
+            attributesChanged = true;
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return delegate.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            delegate.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return delegate.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            delegate.setMaxInactiveInterval(interval);
+            attributesChanged = true;
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return delegate.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return delegate.isExpired();
+        }
+    }
+}
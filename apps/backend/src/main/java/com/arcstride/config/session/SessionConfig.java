@@ -0,0 +1,41 @@
+package com.arcstride.config.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.web.http.CookieSerializer;
+import org.springframework.session.web.http.DefaultCookieSerializer;
+
+/**
+ * HttpSession을 MySQL(http_sessions)에 저장.
+ * 재시작해도 로그인이 유지되고, 7일짜리 세션이 힙에 쌓이지 않음.
+ */
+@Configuration
+@EnableSpringHttpSession
+public class SessionConfig {
+
+    /** 세션 쿠키 이름 (공개 조회 체인은 이 쿠키 유무로 익명 요청을 판별) */
+    public static final String COOKIE_NAME = "JSESSIONID";
+
+    @Bean
+    public MySqlSessionRepository sessionRepository(JdbcTemplate jdbcTemplate, SessionStoreProperties properties) {
+        return new MySqlSessionRepository(jdbcTemplate, properties);
+    }
+
+    /** 기존 컨테이너 세션 쿠키 설정(server.servlet.session.cookie) 그대로 사용 */
+    @Bean
+    public CookieSerializer cookieSerializer(
+            @Value("${server.servlet.session.cookie.secure:false}") boolean secure,
+            @Value("${server.servlet.session.cookie.max-age:604800}") int maxAge) {
+        DefaultCookieSerializer serializer = new DefaultCookieSerializer();
+        serializer.setCookieName(COOKIE_NAME);
+        serializer.setUseHttpOnlyCookie(true);
+        serializer.setUseSecureCookie(secure);
+        serializer.setSameSite("Lax");
+        serializer.setCookieMaxAge(maxAge);
+        serializer.setUseBase64Encoding(false);
+        return serializer;
+    }
+}
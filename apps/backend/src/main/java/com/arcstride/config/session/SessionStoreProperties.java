@@ -0,0 +1,23 @@
+package com.arcstride.config.session;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * MySQL 세션 저장소 설정.
+ * last-access 반영 주기는 arcstride.session.touch-flush-interval, 만료 정리 주기는 arcstride.session.cleanup-interval.
+ *
+ * @param timeout           세션 유휴 만료 시간
+ * @param hotMaxEntries     메모리(hot tier)에 유지할 세션 수
+ * @param hotTtl            hot tier 스냅샷을 BLOB 재조회 없이 사용할 시간 (다른 인스턴스의 변경은 매 조회 버전 확인으로 반영)
+ * @param cleanupBatchSize  만료 세션 삭제 1회 배치 크기
+ */
+@ConfigurationProperties("arcstride.session")
+public record SessionStoreProperties(
+        @DefaultValue("7d") Duration timeout,
+        @DefaultValue("2000") int hotMaxEntries,
+        @DefaultValue("60s") Duration hotTtl,
+        @DefaultValue("500") int cleanupBatchSize
+) {}
@@ -3,14 +3,19 @@ package com.arcstride.domain.character.controller;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import com.arcstride.common.dto.ItemsResponse;
+import com.arcstride.config.responsecache.EncodedResponseCache;
 import com.arcstride.domain.character.dto.CharacterDtos;
 import com.arcstride.domain.character.service.CharacterService;
+import com.arcstride.domain.title.service.TitleVersionService;
 import com.arcstride.security.service.CurrentUserId;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
 
 @Tag(name = "Character", description = "캐릭터 관리")
 @RestController
@@ -19,6 +24,8 @@ import org.springframework.web.bind.annotation.*;
 public class CharacterController {
 
     private final CharacterService characterService;
+    private final TitleVersionService versionService;
+    private final EncodedResponseCache responseCache;
 
     @PostMapping
     public ResponseEntity<CharacterDtos.CreateResponse> create(
@@ -29,8 +36,20 @@ public class CharacterController {
                 .body(characterService.create(titleId, req, userId));
     }
 
+    /** GET /api/titles/{titleId}/characters (공개, 작품 버전 기준 조건부 GET + 직렬화 캐시) */
     @GetMapping
-    public ResponseEntity<ItemsResponse<CharacterDtos.ListItem>> list(@PathVariable Long titleId) {
-        return ResponseEntity.ok(ItemsResponse.of(characterService.listByTitle(titleId)));
+    public ResponseEntity<ItemsResponse<CharacterDtos.ListItem>> list(@PathVariable Long titleId,
+                                                                      ServletWebRequest webRequest) throws IOException {
+        TitleVersionService.Version version = versionService.current(titleId);
+        if (version == null) {
+            return ResponseEntity.ok(ItemsResponse.of(characterService.listByTitle(titleId)));   // 없는 작품 → 404
+        }
+        String etag = version.etag("characters");
+        if (webRequest.checkNotModified(etag, version.lastModified())) {
+            return null;
+        }
+        responseCache.write(webRequest, "characters:" + titleId, etag,
+                () -> ItemsResponse.of(characterService.listByTitle(titleId)));
+        return null;
     }
 }
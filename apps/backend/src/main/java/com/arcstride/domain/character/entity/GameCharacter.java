@@ -1,16 +1,21 @@
 package com.arcstride.domain.character.entity;
 
 import com.arcstride.common.enums.Enums.ContentStatus;
+import com.arcstride.config.entitycache.EntityCacheRegions;
 import com.arcstride.domain.title.entity.Title;
 import com.arcstride.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.CHARACTER)
 @Table(name = "characters")
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
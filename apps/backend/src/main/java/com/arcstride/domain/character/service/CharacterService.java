@@ -3,12 +3,15 @@ package com.arcstride.domain.character.service;
 import com.arcstride.common.enums.Enums.ContentStatus;
 import com.arcstride.common.enums.Enums.TitleType;
 import com.arcstride.common.exception.ApiException;
+import com.arcstride.config.outbox.OutboxEventType;
+import com.arcstride.config.outbox.OutboxPublisher;
 import com.arcstride.common.util.NormalizeUtil;
 import com.arcstride.domain.character.dto.CharacterDtos;
 import com.arcstride.domain.character.entity.GameCharacter;
 import com.arcstride.domain.character.repository.CharacterRepository;
 import com.arcstride.domain.title.entity.Title;
 import com.arcstride.domain.title.repository.TitleRepository;
+import com.arcstride.domain.title.service.TitleVersionService;
 import com.arcstride.domain.user.entity.User;
 import com.arcstride.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +19,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +28,8 @@ public class CharacterService {
     private final CharacterRepository characterRepository;
     private final TitleRepository titleRepository;
     private final UserRepository userRepository;
+    private final TitleVersionService versionService;
+    private final OutboxPublisher outbox;
 
     @Transactional
     public CharacterDtos.CreateResponse create(Long titleId, CharacterDtos.CreateRequest req, Long userId) {
@@ -59,6 +65,8 @@ public class CharacterService {
                 .createdBy(user)
                 .build();
         character = characterRepository.save(character);
+        versionService.bump(titleId);
+        outbox.append(OutboxEventType.CHARACTER_CREATED, titleId, Map.of("characterId", character.getCharacterId()));
 
         return new CharacterDtos.CreateResponse(character.getCharacterId());
     }
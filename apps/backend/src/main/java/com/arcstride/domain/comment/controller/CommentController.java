@@ -12,8 +12,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Comment", description = "댓글 관리")
 @RestController
@@ -40,6 +42,17 @@ public class CommentController {
         return ResponseEntity.ok(PageResponse.of(commentService.listByTitle(titleId, pageable)));
     }
 
+    /**
+     * GET /api/titles/{titleId}/comments/stream (공개)
+     * 새 댓글을 SSE(event: comment)로 push. 초기 목록은 기존 목록 API로 조회.
+     */
+    @GetMapping(value = "/api/titles/{titleId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(@PathVariable Long titleId) {
+        return ResponseEntity.ok()
+                .header("X-Accel-Buffering", "no")   // Nginx 프록시 버퍼링 비활성화
+                .body(commentService.subscribe(titleId));
+    }
+
     /** DELETE /api/comments/{commentId} */
     @DeleteMapping("/api/comments/{commentId}")
     public ResponseEntity<Void> delete(
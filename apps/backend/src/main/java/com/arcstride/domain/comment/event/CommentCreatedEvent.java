@@ -0,0 +1,9 @@
+package com.arcstride.domain.comment.event;
+
+import com.arcstride.domain.comment.dto.CommentDtos;
+
+/**
+ * 댓글 생성 이벤트.
+ * 트랜잭션 커밋 이후 실시간 스트림 구독자에게 전달됩니다.
+ */
+public record CommentCreatedEvent(Long titleId, CommentDtos.CommentItem item) {}
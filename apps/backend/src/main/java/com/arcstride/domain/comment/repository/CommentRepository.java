@@ -5,7 +5,13 @@ import com.arcstride.common.enums.Enums.ContentStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -14,5 +20,46 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     long countByTitle_TitleIdAndStatus(Long titleId, ContentStatus status);
 
-    Optional<Comment> findByCommentIdAndUser_UserId(Long commentId, Long userId);
+    Optional<Comment> findByCommentIdAndUser_UserIdAndStatus(Long commentId, Long userId, ContentStatus status);
+
+    /** 주어진 댓글들의 직계 답글 중 아직 DELETED가 아닌 것 (삭제 시 서브트리 전파) */
+    @Query("SELECT c.commentId FROM Comment c WHERE c.parentId IN :parentIds AND c.status <> :deleted")
+    List<Long> findLiveReplyIds(@Param("parentIds") Collection<Long> parentIds,
+                                @Param("deleted") ContentStatus deleted);
+
+    // ── 삭제 댓글 정리 (CommentPurger) ──
+
+    /** 부모가 DELETED인데 아직 DELETED가 아닌 답글 (tombstone 하위 전파 대상) */
+    @Query("""
+        SELECT c.commentId AS commentId, c.title.titleId AS titleId
+        FROM Comment c
+        WHERE c.status <> :deleted
+          AND c.parentId IN (SELECT p.commentId FROM Comment p WHERE p.status = :deleted)
+    """)
+    List<PurgeTarget> findRepliesOfDeleted(@Param("deleted") ContentStatus deleted, Pageable pageable);
+
+    /** 하위 답글이 없는 DELETED 댓글 (리프부터 삭제하여 FK CASCADE가 큰 서브트리를 한 번에 지우지 않도록) */
+    @Query("""
+        SELECT c.commentId AS commentId, c.title.titleId AS titleId
+        FROM Comment c
+        WHERE c.status = :deleted
+          AND c.updatedAt < :cutoff
+          AND NOT EXISTS (SELECT 1 FROM Comment ch WHERE ch.parentId = c.commentId)
+    """)
+    List<PurgeTarget> findPurgeableLeaves(@Param("deleted") ContentStatus deleted,
+                                          @Param("cutoff") LocalDateTime cutoff,
+                                          Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.status = :status WHERE c.commentId IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") ContentStatus status);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.commentId IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface PurgeTarget {
+        Long getCommentId();
+        Long getTitleId();
+    }
 }
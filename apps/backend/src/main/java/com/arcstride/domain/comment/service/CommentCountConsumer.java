@@ -0,0 +1,41 @@
+package com.arcstride.domain.comment.service;
+
+import com.arcstride.config.outbox.OutboxConsumer;
+import com.arcstride.config.outbox.OutboxEvent;
+import com.arcstride.config.outbox.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * COMMENT_CHANGED / COMMENT_DELETED → title_stats 댓글 수 재계산.
+ * COMMENT_DELETED는 먼저 답글 서브트리를 DELETED로 표시한 뒤 다시 셈.
+ * 배치 안에서 같은 작품은 1회만 재계산 (원본에서 다시 세므로 중복 전달에도 안전).
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentCountConsumer implements OutboxConsumer {
+
+    private final CommentService commentService;
+
+    @Override
+    public String name() {
+        return "comment-count";
+    }
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return Set.of(OutboxEventType.COMMENT_CHANGED, OutboxEventType.COMMENT_DELETED);
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        events.stream()
+                .filter(e -> e.type() == OutboxEventType.COMMENT_DELETED)
+                .forEach(e -> commentService.deleteReplies(e.payload().get("commentId").asLong()));
+        events.stream().map(OutboxEvent::aggregateId).distinct()
+                .forEach(commentService::refreshCommentCount);
+    }
+}
@@ -0,0 +1,21 @@
+package com.arcstride.domain.comment.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 삭제(DELETED) 댓글 정리 작업 설정.
+ * 실행 주기는 arcstride.comment-purge.cron (기본: 새벽 3~6시, 10분 간격).
+ *
+ * @param batchSize         배치 1회에 처리할 댓글 수 (트랜잭션/락 범위 제한)
+ * @param maxBatchesPerRun  1회 실행당 최대 배치 수
+ * @param gracePeriod       삭제 후 물리 삭제까지 유예 시간
+ */
+@ConfigurationProperties("arcstride.comment-purge")
+public record CommentPurgeProperties(
+        @DefaultValue("200") int batchSize,
+        @DefaultValue("50") int maxBatchesPerRun,
+        @DefaultValue("1h") Duration gracePeriod
+) {}
@@ -0,0 +1,96 @@
+package com.arcstride.domain.comment.service;
+
+import com.arcstride.common.enums.Enums.ContentStatus;
+import com.arcstride.config.outbox.OutboxEventType;
+import com.arcstride.config.outbox.OutboxPublisher;
+import com.arcstride.domain.comment.repository.CommentRepository;
+import com.arcstride.domain.comment.repository.CommentRepository.PurgeTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+/**
+ * 삭제(DELETED) 처리된 댓글 서브트리를 비피크 시간대에 작은 배치로 물리 삭제.
+ *
+ * 1) 전파: DELETED 댓글의 답글을 DELETED로 표시 (단계별로 내려감)
+ *    삭제 직후 COMMENT_DELETED 소비자가 서브트리를 먼저 표시하므로, 그 뒤에 커밋된 답글 등 남은 행만 대상
+ * 2) 삭제: 하위 답글이 없는 DELETED 댓글부터 삭제 (리프 → 루트)
+ *
+ * 배치마다 별도 트랜잭션이므로 사용자 요청이 긴 락을 기다리지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentPurger {
+
+    private final CommentRepository commentRepository;
+    private final OutboxPublisher outbox;
+    private final CommentPurgeProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${arcstride.comment-purge.cron:0 */10 3-6 * * *}")
+    public void purge() {
+        int budget = properties.maxBatchesPerRun();
+        int propagated = 0;
+        int deleted = 0;
+
+        while (budget-- > 0) {
+            int n = runBatch(this::propagateBatch);
+            propagated += n;
+            if (n < properties.batchSize()) break;
+        }
+        while (budget-- > 0) {
+            int n = runBatch(this::deleteBatch);
+            deleted += n;
+            if (n < properties.batchSize()) break;
+        }
+
+        if (propagated > 0 || deleted > 0) {
+            log.info("Comment purge: propagated={}, deleted={}", propagated, deleted);
+        }
+    }
+
+    private int runBatch(IntSupplier batch) {
+        Integer n = transactionTemplate.execute(status -> batch.getAsInt());
+        return n != null ? n : 0;
+    }
+
+    private int propagateBatch() {
+        List<PurgeTarget> targets = commentRepository.findRepliesOfDeleted(
+                ContentStatus.DELETED, PageRequest.of(0, properties.batchSize()));
+        if (targets.isEmpty()) return 0;
+
+        commentRepository.updateStatusByIdIn(ids(targets), ContentStatus.DELETED);
+        // ACTIVE 답글이 DELETED가 되었으므로 해당 작품의 댓글 수 재계산 (CommentCountConsumer)
+        titleIds(targets).forEach(titleId -> outbox.append(OutboxEventType.COMMENT_CHANGED, titleId));
+        return targets.size();
+    }
+
+    private int deleteBatch() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.gracePeriod());
+        List<PurgeTarget> targets = commentRepository.findPurgeableLeaves(
+                ContentStatus.DELETED, cutoff, PageRequest.of(0, properties.batchSize()));
+        if (targets.isEmpty()) return 0;
+
+        return commentRepository.deleteByIdIn(ids(targets));
+    }
+
+    private static List<Long> ids(List<PurgeTarget> targets) {
+        return targets.stream().map(PurgeTarget::getCommentId).toList();
+    }
+
+    private static Set<Long> titleIds(List<PurgeTarget> targets) {
+        Set<Long> ids = new LinkedHashSet<>();
+        targets.forEach(t -> ids.add(t.getTitleId()));
+        return ids;
+    }
+}
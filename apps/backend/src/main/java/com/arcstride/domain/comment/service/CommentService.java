@@ -2,20 +2,30 @@ package com.arcstride.domain.comment.service;
 
 import com.arcstride.common.enums.Enums.ContentStatus;
 import com.arcstride.common.exception.ApiException;
+import com.arcstride.config.outbox.OutboxEventType;
+import com.arcstride.config.outbox.OutboxPublisher;
 import com.arcstride.domain.comment.dto.CommentDtos;
 import com.arcstride.domain.comment.entity.Comment;
+import com.arcstride.domain.comment.event.CommentCreatedEvent;
 import com.arcstride.domain.comment.repository.CommentRepository;
 import com.arcstride.domain.title.entity.Title;
 import com.arcstride.domain.title.entity.TitleStats;
 import com.arcstride.domain.title.repository.TitleRepository;
 import com.arcstride.domain.title.repository.TitleStatsRepository;
+import com.arcstride.domain.title.service.TitleStatsMetrics;
+import com.arcstride.domain.title.service.TitleVersionService;
 import com.arcstride.domain.user.entity.User;
 import com.arcstride.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +35,11 @@ public class CommentService {
     private final TitleRepository titleRepository;
     private final TitleStatsRepository statsRepository;
     private final UserRepository userRepository;
+    private final CommentStreamBroadcaster streamBroadcaster;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TitleStatsMetrics statsMetrics;
+    private final TitleVersionService versionService;
+    private final OutboxPublisher outbox;
 
     @Transactional
     public CommentDtos.CreateResponse create(Long userId, Long titleId, CommentDtos.CreateRequest req) {
@@ -42,7 +57,10 @@ public class CommentService {
                 .build();
         comment = commentRepository.save(comment);
 
-        refreshCommentCount(titleId);
+        outbox.append(OutboxEventType.COMMENT_CHANGED, titleId, Map.of("commentId", comment.getCommentId()));
+
+        // 커밋 이후 실시간 스트림 구독자에게 전달 (CommentStreamBroadcaster)
+        eventPublisher.publishEvent(new CommentCreatedEvent(titleId, CommentDtos.CommentItem.from(comment)));
 
         return new CommentDtos.CreateResponse(comment.getCommentId());
     }
@@ -56,24 +74,51 @@ public class CommentService {
                 .map(CommentDtos.CommentItem::from);
     }
 
+    /** 작품별 실시간 댓글 스트림 구독 (SSE) */
+    public SseEmitter subscribe(Long titleId) {
+        if (!titleRepository.existsById(titleId)) {
+            throw ApiException.notFound("작품을 찾을 수 없습니다.");
+        }
+        return streamBroadcaster.subscribe(titleId);
+    }
+
     @Transactional
     public void delete(Long userId, Long commentId) {
-        Comment comment = commentRepository.findByCommentIdAndUser_UserId(commentId, userId)
+        Comment comment = commentRepository.findByCommentIdAndUser_UserIdAndStatus(commentId, userId, ContentStatus.ACTIVE)
                 .orElseThrow(() -> ApiException.forbidden("댓글을 찾을 수 없거나 삭제 권한이 없습니다."));
 
+        // Soft delete: 이 행만 DELETED로. 답글 서브트리는 COMMENT_DELETED 소비자가 커밋 후 표시 (CommentCountConsumer)
         Long titleId = comment.getTitle().getTitleId();
-        commentRepository.delete(comment);
-        refreshCommentCount(titleId);
+        comment.setStatus(ContentStatus.DELETED);
+        outbox.append(OutboxEventType.COMMENT_DELETED, titleId, Map.of("commentId", commentId));
+    }
+
+    /** 삭제된 댓글의 답글 서브트리를 단계별로 DELETED 표시 (CommentCountConsumer가 아웃박스 이벤트로 호출, 멱등) */
+    @Transactional
+    public void deleteReplies(Long commentId) {
+        List<Long> frontier = List.of(commentId);
+        while (!frontier.isEmpty()) {
+            frontier = commentRepository.findLiveReplyIds(frontier, ContentStatus.DELETED);
+            if (!frontier.isEmpty()) {
+                commentRepository.updateStatusByIdIn(frontier, ContentStatus.DELETED);
+            }
+        }
     }
 
-    private void refreshCommentCount(Long titleId) {
-        long count = commentRepository.countByTitle_TitleIdAndStatus(titleId, ContentStatus.ACTIVE);
-        TitleStats stats = statsRepository.findById(titleId)
-                .orElseGet(() -> {
-                    Title t = titleRepository.getReferenceById(titleId);
-                    return TitleStats.builder().title(t).build();
-                });
-        stats.setCommentCount((int) count);
-        statsRepository.save(stats);
+    /** 댓글 수 재계산 (CommentCountConsumer가 아웃박스 이벤트로 호출) */
+    @Transactional
+    public void refreshCommentCount(Long titleId) {
+        statsMetrics.recordCommentRefresh(() -> {
+            // 통계 행을 먼저 잠근 뒤 셈 (ReviewService.refreshTitleStats와 같은 순서)
+            TitleStats stats = statsRepository.findForUpdate(titleId)
+                    .orElseGet(() -> {
+                        Title t = titleRepository.getReferenceById(titleId);
+                        return TitleStats.builder().title(t).build();
+                    });
+            long count = commentRepository.countByTitle_TitleIdAndStatus(titleId, ContentStatus.ACTIVE);
+            stats.setCommentCount((int) count);
+            statsRepository.save(stats);
+            versionService.bump(titleId);
+        });
     }
 }
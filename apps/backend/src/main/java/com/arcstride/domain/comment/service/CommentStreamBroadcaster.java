@@ -0,0 +1,163 @@
+package com.arcstride.domain.comment.service;
+
+import com.arcstride.common.exception.ApiException;
+import com.arcstride.domain.comment.dto.CommentDtos;
+import com.arcstride.domain.comment.event.CommentCreatedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작품별 댓글 SSE 팬아웃 브로드캐스터 (인스턴스 내부 전용).
+ *
+ * - 구독자마다 가상 스레드 1개가 bounded 큐를 비우며 SseEmitter로 전송
+ * - 발행 측은 offer만 하므로 느린 클라이언트가 커밋 스레드를 막지 않음
+ * - 큐가 가득 찬 구독자는 즉시 연결 종료 (클라이언트는 EventSource 재연결 후 목록 API로 보정)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentStreamBroadcaster {
+
+    private final CommentStreamProperties properties;
+
+    private final ConcurrentHashMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadFactory threadFactory = Thread.ofVirtual().name("comment-sse-", 0).factory();
+
+    public SseEmitter subscribe(Long titleId) {
+        if (subscriberCount.incrementAndGet() > properties.maxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE, "STREAM_BUSY",
+                    "실시간 댓글 구독자가 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        Subscriber subscriber = new Subscriber(titleId, emitter, new ArrayBlockingQueue<>(properties.bufferSize()));
+
+        subscribers.compute(titleId, (id, set) -> {
+            if (set == null) set = ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+
+        subscriber.start();
+        return emitter;
+    }
+
+    /** 커밋된 댓글만 전달 (롤백된 댓글이 스트림에 노출되지 않도록 AFTER_COMMIT) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.titleId());
+        if (targets == null) return;
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(event.item());
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(Subscriber::close));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.titleId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    private final class Subscriber {
+
+        private final Long titleId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<CommentDtos.CommentItem> queue;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Thread worker;
+
+        private Subscriber(Long titleId, SseEmitter emitter, BlockingQueue<CommentDtos.CommentItem> queue) {
+            this.titleId = titleId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        void start() {
+            worker = threadFactory.newThread(this::drain);
+            worker.start();
+        }
+
+        void offer(CommentDtos.CommentItem item) {
+            if (closed.get()) return;
+            if (!queue.offer(item)) {
+                log.debug("Dropping slow comment stream subscriber: titleId={}", titleId);
+                close();
+            }
+        }
+
+        private void drain() {
+            long heartbeatMillis = properties.heartbeat().toMillis();
+            try {
+                // 헤더를 즉시 flush해 클라이언트가 연결 성립을 알 수 있게 함
+                emitter.send(SseEmitter.event().comment("connected"));
+                while (!closed.get()) {
+                    CommentDtos.CommentItem item = queue.poll(heartbeatMillis, TimeUnit.MILLISECONDS);
+                    if (closed.get()) break;
+                    if (item == null) {
+                        emitter.send(SseEmitter.event().comment("ping"));
+                    } else {
+                        emitter.send(SseEmitter.event()
+                                .name("comment")
+                                .id(String.valueOf(item.commentId()))
+                                .data(item, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) return;
+            remove(this);
+            queue.clear();
+            Thread w = worker;
+            if (w != null && w != Thread.currentThread()) {
+                w.interrupt();
+            }
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // 이미 완료된 emitter
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.arcstride.domain.comment.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 작품별 실시간 댓글 스트림(SSE) 설정.
+ *
+ * @param bufferSize     구독자별 대기 큐 크기. 가득 차면 느린 구독자로 보고 연결을 끊음
+ * @param heartbeat      새 댓글이 없을 때 ping 주석을 보내는 간격 (끊긴 연결 감지용)
+ * @param timeout        SSE 연결 최대 유지 시간. 만료 시 클라이언트가 재연결
+ * @param maxSubscribers 인스턴스 전체 동시 구독자 상한
+ */
+@ConfigurationProperties("arcstride.comment-stream")
+public record CommentStreamProperties(
+        @DefaultValue("64") int bufferSize,
+        @DefaultValue("15s") Duration heartbeat,
+        @DefaultValue("30m") Duration timeout,
+        @DefaultValue("10000") int maxSubscribers
+) {}
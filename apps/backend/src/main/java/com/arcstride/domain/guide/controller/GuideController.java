@@ -2,8 +2,10 @@ package com.arcstride.domain.guide.controller;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import com.arcstride.common.dto.ItemsResponse;
 import com.arcstride.common.dto.PageResponse;
 import com.arcstride.domain.guide.dto.GuideDtos;
+import com.arcstride.domain.guide.service.GuideRenderer;
 import com.arcstride.domain.guide.service.GuideService;
 import com.arcstride.security.service.CurrentUserId;
 import jakarta.validation.Valid;
@@ -11,9 +13,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "Guide", description = "공략 관리")
 @RestController
@@ -41,12 +45,36 @@ public class GuideController {
         return ResponseEntity.ok(PageResponse.of(guideService.list(targetType, targetId, pageable)));
     }
 
+    /** GET /api/guides/popular?limit=20 (공개, 최근 조회 가중 인기순) */
+    @GetMapping("/popular")
+    public ResponseEntity<ItemsResponse<GuideDtos.GuideListItem>> popular(
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(ItemsResponse.of(guideService.popular(limit)));
+    }
+
     /** GET /api/guides/{guideId} (공개) */
     @GetMapping("/{guideId}")
     public ResponseEntity<GuideDtos.GuideDetailResponse> detail(@PathVariable Long guideId) {
         return ResponseEntity.ok(guideService.detail(guideId));
     }
 
+    /**
+     * GET /api/guides/{guideId}/rendered (공개)
+     * 서버 렌더링 HTML. ETag(본문 해시 + 렌더러 버전)가 일치하면 본문 조회 없이 304
+     */
+    @GetMapping("/{guideId}/rendered")
+    public ResponseEntity<GuideDtos.RenderedResponse> rendered(@PathVariable Long guideId, WebRequest webRequest) {
+        String etag = guideService.renderedEtag(guideId);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        GuideDtos.RenderedResponse body = guideService.rendered(guideId);
+        return ResponseEntity.ok()
+                .eTag(GuideRenderer.etag(body.contentHash()))
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+
     /** PATCH /api/guides/{guideId} (작성자만) */
     @PatchMapping("/{guideId}")
     public ResponseEntity<GuideDtos.GuideDetailResponse> patch(
@@ -56,6 +84,23 @@ public class GuideController {
         return ResponseEntity.ok(guideService.patch(userId, guideId, req));
     }
 
+    /** GET /api/guides/{guideId}/revisions (작성자만) */
+    @GetMapping("/{guideId}/revisions")
+    public ResponseEntity<ItemsResponse<GuideDtos.RevisionItem>> revisions(
+            @PathVariable Long guideId,
+            @CurrentUserId Long userId) {
+        return ResponseEntity.ok(ItemsResponse.of(guideService.revisions(userId, guideId)));
+    }
+
+    /** GET /api/guides/{guideId}/revisions/{revisionNo} (작성자만) */
+    @GetMapping("/{guideId}/revisions/{revisionNo}")
+    public ResponseEntity<GuideDtos.RevisionDetail> revision(
+            @PathVariable Long guideId,
+            @PathVariable int revisionNo,
+            @CurrentUserId Long userId) {
+        return ResponseEntity.ok(guideService.revision(userId, guideId, revisionNo));
+    }
+
     /** DELETE /api/guides/{guideId} (작성자만) */
     @DeleteMapping("/{guideId}")
     public ResponseEntity<Void> delete(
@@ -1,8 +1,10 @@
 package com.arcstride.domain.guide.dto;
 
+import com.arcstride.common.enums.Enums.RevisionKind;
 import com.arcstride.common.enums.Enums.TargetType;
 import com.arcstride.common.enums.Enums.Visibility;
 import com.arcstride.domain.guide.entity.Guide;
+import com.arcstride.domain.guide.repository.GuideRepository;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -39,17 +41,17 @@ public final class GuideDtos {
             Visibility visibility,
             LocalDateTime createdAt
     ) {
-        public static GuideListItem from(Guide g) {
-            Target target = g.getTitle() != null
-                    ? new Target(TargetType.TITLE, g.getTitle().getTitleId())
-                    : new Target(TargetType.UNIT, g.getUnit().getUnitId());
+        public static GuideListItem from(GuideRepository.ListRow r) {
+            Target target = r.getTitleId() != null
+                    ? new Target(TargetType.TITLE, r.getTitleId())
+                    : new Target(TargetType.UNIT, r.getUnitId());
             return new GuideListItem(
-                    g.getGuideId(),
-                    new UserRef(g.getAuthor().getUserId(), g.getAuthor().getUsername()),
+                    r.getGuideId(),
+                    new UserRef(r.getAuthorId(), r.getAuthorUsername()),
                     target,
-                    g.getGuideTitle(),
-                    g.getVisibility(),
-                    g.getCreatedAt()
+                    r.getGuideTitle(),
+                    r.getVisibility(),
+                    r.getCreatedAt()
             );
         }
     }
@@ -61,6 +63,7 @@ public final class GuideDtos {
             String title,
             String content,
             Visibility visibility,
+            long viewCount,
             LocalDateTime createdAt,
             LocalDateTime updatedAt
     ) {
@@ -75,11 +78,33 @@ public final class GuideDtos {
                     g.getGuideTitle(),
                     g.getContent(),
                     g.getVisibility(),
+                    g.getViewCount() != null ? g.getViewCount() : 0L,
                     g.getCreatedAt(),
                     g.getUpdatedAt()
             );
         }
     }
 
+    /** 서버 렌더링된 본문 (sanitize 완료 HTML) */
+    public record RenderedResponse(
+            Long guideId,
+            String contentHash,
+            String html
+    ) {}
+
+    public record RevisionItem(
+            int revisionNo,
+            RevisionKind kind,
+            int contentLength,
+            LocalDateTime createdAt
+    ) {}
+
+    public record RevisionDetail(
+            Long guideId,
+            int revisionNo,
+            String content,
+            LocalDateTime createdAt
+    ) {}
+
     public record UserRef(Long userId, String username) {}
 }
@@ -1,7 +1,10 @@
 package com.arcstride.domain.guide.entity;
 
+import com.arcstride.common.enums.Enums.ContentCodec;
 import com.arcstride.common.enums.Enums.ContentStatus;
 import com.arcstride.common.enums.Enums.Visibility;
+import com.arcstride.common.util.CompressionUtil;
+import com.arcstride.common.util.HashUtil;
 import com.arcstride.domain.title.entity.Title;
 import com.arcstride.domain.unit.entity.Unit;
 import com.arcstride.domain.user.entity.User;
@@ -41,8 +44,21 @@ public class Guide {
     @Column(name = "title", nullable = false)
     private String guideTitle;
 
-    @Column(nullable = false, columnDefinition = "LONGTEXT")
-    private String content;
+    /** 본문 원본 바이트 (contentCodec에 따라 PLAIN/DEFLATE). 직접 접근하지 말고 getContent/setContent 사용 */
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    @Column(name = "content_data", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] contentData;
+
+    @Setter(AccessLevel.NONE)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_codec", nullable = false, length = 10)
+    @Builder.Default
+    private ContentCodec contentCodec = ContentCodec.PLAIN;
+
+    /** 본문(UTF-8) SHA-256. 렌더 캐시 키/ETag로 사용 (V5 이전 DEFLATE 행은 첫 렌더 시 보정) */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "content_hash", columnDefinition = "CHAR(64)")
+    private String contentHash;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
@@ -54,6 +70,10 @@ public class Guide {
     @Builder.Default
     private ContentStatus status = ContentStatus.ACTIVE;
 
+    /** 누적 조회수. GuideViewCounter가 batch로만 증가시키므로 엔티티 저장 시에는 쓰지 않음 */
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false)
+    private Long viewCount;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -61,4 +81,15 @@ public class Guide {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    public String getContent() {
+        return CompressionUtil.decode(contentData, contentCodec);
+    }
+
+    public void setContent(String content) {
+        CompressionUtil.Encoded encoded = CompressionUtil.encode(content);
+        this.contentData = encoded.data();
+        this.contentCodec = encoded.codec();
+        this.contentHash = HashUtil.sha256Hex(content);
+    }
 }
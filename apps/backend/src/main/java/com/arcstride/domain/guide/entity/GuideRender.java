@@ -0,0 +1,43 @@
+package com.arcstride.domain.guide.entity;
+
+import com.arcstride.common.enums.Enums.ContentCodec;
+import com.arcstride.common.util.CompressionUtil;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공략 본문 렌더 결과 캐시 (content_hash 단위, 같은 본문을 가진 공략끼리 공유).
+ * 쓰기는 GuideRenderRepository.upsert(native)로만 수행.
+ */
+@Entity
+@Immutable
+@Table(name = "guide_renders")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GuideRender {
+
+    @Id
+    @Column(name = "content_hash", columnDefinition = "CHAR(64)")
+    private String contentHash;
+
+    @Column(name = "renderer_version", nullable = false)
+    private int rendererVersion;
+
+    @Getter(AccessLevel.NONE)
+    @Column(name = "html_data", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] htmlData;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "html_codec", nullable = false, length = 10)
+    private ContentCodec htmlCodec;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public String getHtml() {
+        return CompressionUtil.decode(htmlData, htmlCodec);
+    }
+}
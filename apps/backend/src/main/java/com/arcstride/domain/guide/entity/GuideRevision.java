@@ -0,0 +1,51 @@
+package com.arcstride.domain.guide.entity;
+
+import com.arcstride.common.enums.Enums.RevisionKind;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공략 본문 리비전.
+ * data는 항상 DEFLATE: SNAPSHOT은 본문 UTF-8, DELTA는 직전 리비전 → 현재 리비전의 BinaryDelta
+ */
+@Entity
+@Table(name = "guide_revisions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_guide_revisions", columnNames = {"guide_id", "revision_no"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class GuideRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "revision_id")
+    private Long revisionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "guide_id", nullable = false)
+    private Guide guide;
+
+    @Column(name = "revision_no", nullable = false)
+    private int revisionNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RevisionKind kind;
+
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] data;
+
+    @Column(name = "content_hash", nullable = false, columnDefinition = "CHAR(64)")
+    private String contentHash;
+
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,44 @@
+package com.arcstride.domain.guide.repository;
+
+import com.arcstride.domain.guide.entity.GuideRender;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface GuideRenderRepository extends JpaRepository<GuideRender, String> {
+
+    Optional<GuideRender> findByContentHashAndRendererVersion(String contentHash, int rendererVersion);
+
+    /** 동시 렌더 시에도 안전하도록 upsert (렌더러 버전이 바뀐 행은 덮어씀) */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "guide_renders"))
+    @Query(value = """
+        INSERT INTO guide_renders (content_hash, renderer_version, html_data, html_codec, created_at)
+        VALUES (:hash, :version, :data, :codec, CURRENT_TIMESTAMP)
+        ON DUPLICATE KEY UPDATE
+          renderer_version = VALUES(renderer_version),
+          html_data = VALUES(html_data),
+          html_codec = VALUES(html_codec),
+          created_at = CURRENT_TIMESTAMP
+    """, nativeQuery = true)
+    int upsert(@Param("hash") String contentHash,
+               @Param("version") int rendererVersion,
+               @Param("data") byte[] htmlData,
+               @Param("codec") String htmlCodec);
+
+    /** 더 이상 어떤 공략도 참조하지 않는 렌더 결과 삭제 */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "guide_renders"))
+    @Query(value = """
+        DELETE FROM guide_renders
+        WHERE content_hash = :hash
+          AND NOT EXISTS (SELECT 1 FROM guides g WHERE g.content_hash = :hash)
+    """, nativeQuery = true)
+    int deleteIfUnreferenced(@Param("hash") String contentHash);
+}
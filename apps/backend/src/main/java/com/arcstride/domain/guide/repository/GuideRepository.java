@@ -3,31 +3,129 @@ package com.arcstride.domain.guide.repository;
 import com.arcstride.domain.guide.entity.Guide;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.arcstride.common.enums.Enums.ContentStatus;
+import com.arcstride.common.enums.Enums.Visibility;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface GuideRepository extends JpaRepository<Guide, Long> {
 
+    /** 목록용 행: content_data(BLOB)는 조회하지 않음 */
+    interface ListRow {
+        Long getGuideId();
+        Long getAuthorId();
+        String getAuthorUsername();
+        Long getTitleId();
+        Long getUnitId();
+        String getGuideTitle();
+        Visibility getVisibility();
+        LocalDateTime getCreatedAt();
+    }
+
+    // 대상별 쿼리를 분리해 (title_id|unit_id, status, visibility, created_at) 인덱스를 타도록 함
+
+    @Query(value = """
+        SELECT g.guideId AS guideId, a.userId AS authorId, a.username AS authorUsername,
+               t.titleId AS titleId, u.unitId AS unitId, g.guideTitle AS guideTitle,
+               g.visibility AS visibility, g.createdAt AS createdAt
+        FROM Guide g
+        JOIN g.author a
+        LEFT JOIN g.title t
+        LEFT JOIN g.unit u
+        WHERE g.title.titleId = :titleId
+          AND g.status = 'ACTIVE' AND g.visibility = 'PUBLIC'
+    """, countQuery = """
+        SELECT COUNT(g) FROM Guide g
+        WHERE g.title.titleId = :titleId
+          AND g.status = 'ACTIVE' AND g.visibility = 'PUBLIC'
+    """)
+    Page<ListRow> findPublicByTitle(@Param("titleId") Long titleId, Pageable pageable);
+
+    @Query(value = """
+        SELECT g.guideId AS guideId, a.userId AS authorId, a.username AS authorUsername,
+               t.titleId AS titleId, u.unitId AS unitId, g.guideTitle AS guideTitle,
+               g.visibility AS visibility, g.createdAt AS createdAt
+        FROM Guide g
+        JOIN g.author a
+        LEFT JOIN g.title t
+        LEFT JOIN g.unit u
+        WHERE g.unit.unitId = :unitId
+          AND g.status = 'ACTIVE' AND g.visibility = 'PUBLIC'
+    """, countQuery = """
+        SELECT COUNT(g) FROM Guide g
+        WHERE g.unit.unitId = :unitId
+          AND g.status = 'ACTIVE' AND g.visibility = 'PUBLIC'
+    """)
+    Page<ListRow> findPublicByUnit(@Param("unitId") Long unitId, Pageable pageable);
+
+    @Query(value = """
+        SELECT g.guideId AS guideId, a.userId AS authorId, a.username AS authorUsername,
+               t.titleId AS titleId, u.unitId AS unitId, g.guideTitle AS guideTitle,
+               g.visibility AS visibility, g.createdAt AS createdAt
+        FROM Guide g
+        JOIN g.author a
+        LEFT JOIN g.title t
+        LEFT JOIN g.unit u
+        WHERE g.status = 'ACTIVE' AND g.visibility = 'PUBLIC'
+    """, countQuery = """
+        SELECT COUNT(g) FROM Guide g
+        WHERE g.status = 'ACTIVE' AND g.visibility = 'PUBLIC'
+    """)
+    Page<ListRow> findAllPublic(Pageable pageable);
+
+    /** 인기 순위 스냅샷용: 지정한 공개 공략들의 목록 행 (순서는 호출 측에서 복원) */
     @Query("""
-        SELECT g FROM Guide g
-        WHERE g.status = 'ACTIVE'
-          AND g.visibility = 'PUBLIC'
-          AND (:targetType = 'TITLE' AND g.title.titleId = :targetId
-               OR :targetType = 'UNIT' AND g.unit.unitId = :targetId)
+        SELECT g.guideId AS guideId, a.userId AS authorId, a.username AS authorUsername,
+               t.titleId AS titleId, u.unitId AS unitId, g.guideTitle AS guideTitle,
+               g.visibility AS visibility, g.createdAt AS createdAt
+        FROM Guide g
+        JOIN g.author a
+        LEFT JOIN g.title t
+        LEFT JOIN g.unit u
+        WHERE g.guideId IN :guideIds
+          AND g.status = 'ACTIVE' AND g.visibility = 'PUBLIC'
     """)
-    Page<Guide> findPublicByTarget(@Param("targetType") String targetType,
-                                    @Param("targetId") Long targetId,
-                                    Pageable pageable);
+    List<ListRow> findPublicListRowsByIds(@Param("guideIds") List<Long> guideIds);
 
+    interface ViewSeed {
+        Long getGuideId();
+        Long getViewCount();
+    }
+
+    /** 인기 순위 초기값 (애플리케이션 시작 시 1회) */
     @Query("""
-        SELECT g FROM Guide g
+        SELECT g.guideId AS guideId, g.viewCount AS viewCount
+        FROM Guide g
         WHERE g.status = 'ACTIVE' AND g.visibility = 'PUBLIC'
+        ORDER BY g.viewCount DESC
     """)
-    Page<Guide> findAllPublic(Pageable pageable);
+    List<ViewSeed> findTopViewed(Pageable pageable);
+
+    // ── 대상별 공개 공략 수 (title_stats.guide_count / units.guide_count 재집계용) ──
+
+    long countByTitle_TitleIdAndStatusAndVisibility(Long titleId, ContentStatus status, Visibility visibility);
+
+    long countByUnit_UnitIdAndStatusAndVisibility(Long unitId, ContentStatus status, Visibility visibility);
+
+    /** 렌더 캐시/ETag 확인용: 본문을 읽지 않고 해시만 조회 */
+    @Query("SELECT g.contentHash FROM Guide g WHERE g.guideId = :guideId AND g.status = 'ACTIVE'")
+    Optional<String> findActiveContentHash(@Param("guideId") Long guideId);
 
     Optional<Guide> findByGuideIdAndStatus(Long guideId, ContentStatus status);
+
+    /**
+     * 수정/삭제용 조회 (SELECT ... FOR UPDATE).
+     * 같은 공략의 동시 PATCH를 직렬화해 리비전 번호(최신+1)와 이전 본문 기준 델타가 어긋나지 않도록 함
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM Guide g WHERE g.guideId = :guideId AND g.status = 'ACTIVE'")
+    Optional<Guide> findActiveForUpdate(@Param("guideId") Long guideId);
 }
@@ -0,0 +1,47 @@
+package com.arcstride.domain.guide.repository;
+
+import com.arcstride.common.enums.Enums.RevisionKind;
+import com.arcstride.domain.guide.entity.GuideRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface GuideRevisionRepository extends JpaRepository<GuideRevision, Long> {
+
+    /** 목록용 행: data(BLOB)는 조회하지 않음 */
+    interface RevisionRow {
+        Integer getRevisionNo();
+        RevisionKind getKind();
+        Integer getContentLength();
+        LocalDateTime getCreatedAt();
+    }
+
+    @Query("""
+        SELECT r.revisionNo AS revisionNo, r.kind AS kind, r.contentLength AS contentLength,
+               r.createdAt AS createdAt
+        FROM GuideRevision r
+        WHERE r.guide.guideId = :guideId
+        ORDER BY r.revisionNo DESC
+    """)
+    List<RevisionRow> findRowsByGuide(@Param("guideId") Long guideId);
+
+    @Query("SELECT MAX(r.revisionNo) FROM GuideRevision r WHERE r.guide.guideId = :guideId")
+    Optional<Integer> findLatestRevisionNo(@Param("guideId") Long guideId);
+
+    /** 복원 기준점: revisionNo 이하의 가장 최근 스냅샷 */
+    Optional<GuideRevision> findTopByGuide_GuideIdAndKindAndRevisionNoLessThanEqualOrderByRevisionNoDesc(
+            Long guideId, RevisionKind kind, int revisionNo);
+
+    /** (from, to] 구간 델타를 적용 순서대로 */
+    @Query("""
+        SELECT r FROM GuideRevision r
+        WHERE r.guide.guideId = :guideId
+          AND r.revisionNo > :from AND r.revisionNo <= :to
+        ORDER BY r.revisionNo ASC
+    """)
+    List<GuideRevision> findRange(@Param("guideId") Long guideId, @Param("from") int from, @Param("to") int to);
+}
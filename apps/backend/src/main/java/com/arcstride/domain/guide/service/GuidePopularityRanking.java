@@ -0,0 +1,139 @@
+package com.arcstride.domain.guide.service;
+
+import com.arcstride.domain.guide.dto.GuideDtos;
+import com.arcstride.domain.guide.repository.GuideRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 공략 인기 순위 (지수 감쇠 점수 + 상위 K 스냅샷).
+ *
+ * - 조회 1회 = exp((t - epoch) / tau) 가산. 모든 점수가 같은 비율로 커지므로 주기적 감쇠 연산 없이 순위 비교 가능
+ *   (tau = halfLife / ln2, 값이 너무 커지면 epoch를 옮기며 전체 재조정)
+ * - 주기적으로 크기 K의 최소 힙으로 상위 K를 고르고, 목록 행을 1회 조회해 메모리 스냅샷으로 교체
+ * - GET /api/guides/popular는 스냅샷만 읽음 (DB 접근 없음)
+ * - 시작 시 DB의 view_count 상위 공략으로 초기 점수를 채움 (이후 반감기에 따라 자연 감소)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuidePopularityRanking {
+
+    private static final double RESCALE_THRESHOLD = 1e12;
+
+    private final GuideRepository guideRepository;
+    private final GuideViewProperties properties;
+
+    private final ConcurrentHashMap<Long, DoubleAdder> scores = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock rescaleLock = new ReentrantReadWriteLock();
+    private volatile long epochNanos = System.nanoTime();
+    private volatile List<GuideDtos.GuideListItem> snapshot = List.of();
+
+    public void hit(Long guideId) {
+        add(guideId, 1.0);
+    }
+
+    /** 인기 공략 상위 limit개 (메모리 스냅샷, limit은 1..topK로 보정) */
+    public List<GuideDtos.GuideListItem> top(int limit) {
+        List<GuideDtos.GuideListItem> current = snapshot;
+        int n = Math.max(1, Math.min(limit, properties.topK()));
+        return current.subList(0, Math.min(n, current.size()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void seed() {
+        List<GuideRepository.ViewSeed> seeds = guideRepository.findTopViewed(PageRequest.of(0, properties.topK()));
+        for (GuideRepository.ViewSeed s : seeds) {
+            if (s.getViewCount() > 0) add(s.getGuideId(), s.getViewCount());
+        }
+        refresh();
+        log.info("Guide popularity seeded: guides={}", seeds.size());
+    }
+
+    @Scheduled(fixedDelayString = "${arcstride.guide-views.ranking-interval:30s}",
+            initialDelayString = "${arcstride.guide-views.ranking-interval:30s}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        rescaleIfNeeded();
+
+        // 상위 K: 크기 K 최소 힙 (O(n log K))
+        int k = properties.topK();
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(k + 1, Map.Entry.comparingByValue());
+        for (Map.Entry<Long, DoubleAdder> e : scores.entrySet()) {
+            heap.offer(Map.entry(e.getKey(), e.getValue().sum()));
+            if (heap.size() > k) heap.poll();
+        }
+        List<Long> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) ranked.add(heap.poll().getKey());
+        ranked = ranked.reversed();
+
+        // 비공개/삭제된 공략은 목록 조회에서 빠짐
+        Map<Long, GuideDtos.GuideListItem> rows = ranked.isEmpty() ? Map.of()
+                : guideRepository.findPublicListRowsByIds(ranked).stream()
+                        .map(GuideDtos.GuideListItem::from)
+                        .collect(Collectors.toMap(GuideDtos.GuideListItem::guideId, Function.identity()));
+        snapshot = ranked.stream().map(rows::get).filter(Objects::nonNull).toList();
+
+        trim();
+    }
+
+    private void add(Long guideId, double views) {
+        rescaleLock.readLock().lock();
+        try {
+            scores.computeIfAbsent(guideId, id -> new DoubleAdder()).add(views * weightNow());
+        } finally {
+            rescaleLock.readLock().unlock();
+        }
+    }
+
+    private double weightNow() {
+        double tauNanos = properties.halfLife().toNanos() / Math.log(2);
+        return Math.exp((System.nanoTime() - epochNanos) / tauNanos);
+    }
+
+    private void rescaleIfNeeded() {
+        if (weightNow() < RESCALE_THRESHOLD) return;
+        rescaleLock.writeLock().lock();
+        try {
+            double factor = 1.0 / weightNow();
+            epochNanos = System.nanoTime();
+            for (DoubleAdder adder : scores.values()) {
+                double scaled = adder.sumThenReset() * factor;
+                adder.add(scaled);
+            }
+        } finally {
+            rescaleLock.writeLock().unlock();
+        }
+    }
+
+    /** 추적 수 상한 초과 시 낮은 점수부터 제거 */
+    private void trim() {
+        int overflow = scores.size() - properties.trackLimit();
+        if (overflow <= 0) return;
+        scores.entrySet().stream()
+                .sorted(Comparator.comparingDouble(e -> e.getValue().sum()))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(scores::remove);
+    }
+}
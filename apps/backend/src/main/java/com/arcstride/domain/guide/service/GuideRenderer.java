@@ -0,0 +1,50 @@
+package com.arcstride.domain.guide.service;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.owasp.html.HtmlPolicyBuilder;
+import org.owasp.html.PolicyFactory;
+import org.owasp.html.Sanitizers;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 공략 본문(Markdown) → 안전한 HTML 렌더러.
+ *
+ * - CommonMark + GFM 테이블로 변환한 뒤 OWASP 정책으로 sanitize (본문 내 raw HTML도 정책 통과분만 남음)
+ * - 렌더 규칙(확장/정책)을 바꾸면 VERSION을 올려 기존 캐시(guide_renders)와 ETag를 무효화
+ */
+@Component
+public class GuideRenderer {
+
+    public static final int VERSION = 1;
+
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create());
+
+    private static final PolicyFactory POLICY = Sanitizers.FORMATTING
+            .and(Sanitizers.BLOCKS)
+            .and(Sanitizers.LINKS)
+            .and(Sanitizers.TABLES)
+            .and(Sanitizers.IMAGES)
+            .and(new HtmlPolicyBuilder()
+                    .allowElements("pre", "code", "hr", "del", "s")
+                    .allowAttributes("class").matching(Pattern.compile("language-[\\w-]+")).onElements("code")
+                    .toFactory());
+
+    // Parser/HtmlRenderer는 불변 + 스레드 안전
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder().extensions(EXTENSIONS).build();
+
+    public String render(String markdown) {
+        return POLICY.sanitize(renderer.render(parser.parse(markdown)));
+    }
+
+    /** 강한 ETag: 콘텐츠 해시 + 렌더러 버전 */
+    public static String etag(String contentHash) {
+        return "\"" + contentHash + "-r" + VERSION + "\"";
+    }
+}
@@ -0,0 +1,14 @@
+package com.arcstride.domain.guide.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 공략 리비전 설정.
+ *
+ * @param snapshotInterval N 리비전마다 전체 스냅샷 저장 (복원 시 적용할 델타 수 상한 = N - 1)
+ */
+@ConfigurationProperties("arcstride.guide-revision")
+public record GuideRevisionProperties(
+        @DefaultValue("20") int snapshotInterval
+) {}
@@ -0,0 +1,111 @@
+package com.arcstride.domain.guide.service;
+
+import com.arcstride.common.enums.Enums.RevisionKind;
+import com.arcstride.common.exception.ApiException;
+import com.arcstride.common.util.BinaryDelta;
+import com.arcstride.common.util.CompressionUtil;
+import com.arcstride.common.util.HashUtil;
+import com.arcstride.domain.guide.dto.GuideDtos;
+import com.arcstride.domain.guide.entity.Guide;
+import com.arcstride.domain.guide.entity.GuideRevision;
+import com.arcstride.domain.guide.repository.GuideRevisionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 공략 본문 리비전 기록/복원.
+ *
+ * - 최신 본문은 guides 행에만 있고 (조회는 1행), 이력은 guide_revisions에 누적
+ * - 리비전 1과 snapshotInterval마다 전체 스냅샷, 그 사이는 직전 리비전 대비 델타
+ * - 복원: 대상 이하의 최근 스냅샷 + 델타 최대 (snapshotInterval - 1)개 적용
+ */
+@Service
+@RequiredArgsConstructor
+public class GuideRevisionService {
+
+    private final GuideRevisionRepository revisionRepository;
+    private final GuideRevisionProperties properties;
+
+    /** 공략 생성 시 리비전 1 (스냅샷) */
+    @Transactional
+    public void recordInitial(Guide guide, String content) {
+        save(guide, 1, RevisionKind.SNAPSHOT, snapshotData(content), content);
+    }
+
+    /**
+     * 본문 변경 기록. 기능 도입 전 생성된 공략은 이전 본문을 리비전 1로 먼저 남김.
+     * 호출 측이 guides 행을 잠근 상태여야 함 (GuideService.patch, 최신+1 번호 충돌 방지)
+     */
+    @Transactional
+    public void recordEdit(Guide guide, String previousContent, String content) {
+        int latest = revisionRepository.findLatestRevisionNo(guide.getGuideId()).orElse(0);
+        if (latest == 0) {
+            recordInitial(guide, previousContent);
+            latest = 1;
+        }
+
+        int next = latest + 1;
+        if ((next - 1) % properties.snapshotInterval() == 0) {
+            save(guide, next, RevisionKind.SNAPSHOT, snapshotData(content), content);
+        } else {
+            byte[] delta = BinaryDelta.encode(utf8(previousContent), utf8(content));
+            save(guide, next, RevisionKind.DELTA, CompressionUtil.deflate(delta), content);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<GuideDtos.RevisionItem> list(Long guideId) {
+        return revisionRepository.findRowsByGuide(guideId).stream()
+                .map(r -> new GuideDtos.RevisionItem(r.getRevisionNo(), r.getKind(), r.getContentLength(), r.getCreatedAt()))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public GuideDtos.RevisionDetail read(Long guideId, int revisionNo) {
+        GuideRevision base = revisionRepository
+                .findTopByGuide_GuideIdAndKindAndRevisionNoLessThanEqualOrderByRevisionNoDesc(
+                        guideId, RevisionKind.SNAPSHOT, revisionNo)
+                .orElseThrow(() -> ApiException.notFound("리비전을 찾을 수 없습니다."));
+
+        byte[] content = CompressionUtil.inflate(base.getData());
+        GuideRevision target = base;
+        for (GuideRevision delta : revisionRepository.findRange(guideId, base.getRevisionNo(), revisionNo)) {
+            content = delta.getKind() == RevisionKind.SNAPSHOT
+                    ? CompressionUtil.inflate(delta.getData())
+                    : BinaryDelta.apply(content, CompressionUtil.inflate(delta.getData()));
+            target = delta;
+        }
+        if (target.getRevisionNo() != revisionNo) {
+            throw ApiException.notFound("리비전을 찾을 수 없습니다.");
+        }
+        if (!HashUtil.sha256Hex(content).equals(target.getContentHash())) {
+            throw new IllegalStateException("리비전 복원 결과 해시 불일치: guideId=" + guideId + ", revisionNo=" + revisionNo);
+        }
+
+        return new GuideDtos.RevisionDetail(
+                guideId, revisionNo, new String(content, StandardCharsets.UTF_8), target.getCreatedAt());
+    }
+
+    private void save(Guide guide, int revisionNo, RevisionKind kind, byte[] data, String content) {
+        revisionRepository.save(GuideRevision.builder()
+                .guide(guide)
+                .revisionNo(revisionNo)
+                .kind(kind)
+                .data(data)
+                .contentHash(HashUtil.sha256Hex(content))
+                .contentLength(content.length())
+                .build());
+    }
+
+    private static byte[] snapshotData(String content) {
+        return CompressionUtil.deflate(utf8(content));
+    }
+
+    private static byte[] utf8(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,12 +1,22 @@
 package com.arcstride.domain.guide.service;
 
 import com.arcstride.common.enums.Enums.ContentStatus;
+import com.arcstride.common.enums.Enums.TargetType;
 import com.arcstride.common.enums.Enums.Visibility;
 import com.arcstride.common.exception.ApiException;
+import com.arcstride.common.util.CompressionUtil;
 import com.arcstride.common.util.TargetResolver;
 import com.arcstride.domain.guide.dto.GuideDtos;
 import com.arcstride.domain.guide.entity.Guide;
+import com.arcstride.domain.guide.entity.GuideRender;
+import com.arcstride.domain.guide.repository.GuideRenderRepository;
 import com.arcstride.domain.guide.repository.GuideRepository;
+import com.arcstride.domain.title.entity.TitleStats;
+import com.arcstride.domain.title.repository.TitleRepository;
+import com.arcstride.domain.title.repository.TitleStatsRepository;
+import com.arcstride.domain.title.service.TitleVersionService;
+import com.arcstride.domain.unit.entity.Unit;
+import com.arcstride.domain.unit.repository.UnitRepository;
 import com.arcstride.domain.user.entity.User;
 import com.arcstride.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +25,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class GuideService {
@@ -22,6 +35,15 @@ public class GuideService {
     private final GuideRepository guideRepository;
     private final UserRepository userRepository;
     private final TargetResolver targetResolver;
+    private final GuideRenderRepository guideRenderRepository;
+    private final GuideRenderer guideRenderer;
+    private final GuideRevisionService guideRevisionService;
+    private final TitleRepository titleRepository;
+    private final TitleStatsRepository statsRepository;
+    private final UnitRepository unitRepository;
+    private final GuideViewCounter guideViewCounter;
+    private final GuidePopularityRanking popularityRanking;
+    private final TitleVersionService versionService;
 
     @Transactional
     public GuideDtos.CreateResponse create(Long userId, GuideDtos.CreateRequest req) {
@@ -35,50 +57,170 @@ public class GuideService {
                 .title(resolved.title())
                 .unit(resolved.unit())
                 .guideTitle(req.title())
-                .content(req.content())
                 .visibility(req.visibility() != null ? req.visibility() : Visibility.PUBLIC)
                 .build();
+        guide.setContent(req.content());
         guide = guideRepository.save(guide);
+        guideRevisionService.recordInitial(guide, req.content());
+        refreshGuideCount(guide);
 
         return new GuideDtos.CreateResponse(guide.getGuideId());
     }
 
+    /** 목록은 프로젝션으로 조회 (본문 BLOB을 읽지 않음) */
     @Transactional(readOnly = true)
     public Page<GuideDtos.GuideListItem> list(String targetType, Long targetId, Pageable pageable) {
-        Page<Guide> page;
+        Page<GuideRepository.ListRow> page;
         if (targetType != null && targetId != null) {
-            page = guideRepository.findPublicByTarget(targetType.toUpperCase(), targetId, pageable);
+            TargetType tt;
+            try {
+                tt = TargetType.valueOf(targetType.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw ApiException.badRequest("targetType 값이 올바르지 않습니다: " + targetType);
+            }
+            page = switch (tt) {
+                case TITLE -> guideRepository.findPublicByTitle(targetId, pageable);
+                case UNIT -> guideRepository.findPublicByUnit(targetId, pageable);
+            };
         } else {
             page = guideRepository.findAllPublic(pageable);
         }
         return page.map(GuideDtos.GuideListItem::from);
     }
 
+    /** 인기 공략 (메모리 스냅샷, DB 조회 없음) */
+    public List<GuideDtos.GuideListItem> popular(int limit) {
+        return popularityRanking.top(limit);
+    }
+
     @Transactional(readOnly = true)
     public GuideDtos.GuideDetailResponse detail(Long guideId) {
         Guide guide = guideRepository.findByGuideIdAndStatus(guideId, ContentStatus.ACTIVE)
                 .orElseThrow(() -> ApiException.notFound("공략을 찾을 수 없습니다."));
+        guideViewCounter.record(guideId);
         return GuideDtos.GuideDetailResponse.from(guide);
     }
 
+    /** 렌더 결과 ETag (본문 해시 미보정 행은 null → 렌더 후 확정) */
+    @Transactional(readOnly = true)
+    public String renderedEtag(Long guideId) {
+        return guideRepository.findActiveContentHash(guideId)
+                .map(GuideRenderer::etag)
+                .orElse(null);
+    }
+
+    /**
+     * 서버 렌더링된 본문.
+     * 캐시 적중 시 guides 본문은 읽지 않으며, 미스일 때만 본문을 풀어 렌더 후 guide_renders에 저장.
+     */
+    @Transactional
+    public GuideDtos.RenderedResponse rendered(Long guideId) {
+        String hash = guideRepository.findActiveContentHash(guideId).orElse(null);
+        if (hash != null) {
+            Optional<GuideRender> cached = guideRenderRepository.findByContentHashAndRendererVersion(hash, GuideRenderer.VERSION);
+            if (cached.isPresent()) {
+                return new GuideDtos.RenderedResponse(guideId, hash, cached.get().getHtml());
+            }
+        }
+
+        Guide guide = guideRepository.findByGuideIdAndStatus(guideId, ContentStatus.ACTIVE)
+                .orElseThrow(() -> ApiException.notFound("공략을 찾을 수 없습니다."));
+        String content = guide.getContent();
+        if (guide.getContentHash() == null) {
+            guide.setContent(content);   // 이관 데이터: 해시 보정 + 압축 재저장
+        }
+
+        String html = guideRenderer.render(content);
+        CompressionUtil.Encoded encoded = CompressionUtil.encode(html);
+        guideRenderRepository.upsert(guide.getContentHash(), GuideRenderer.VERSION, encoded.data(), encoded.codec().name());
+        return new GuideDtos.RenderedResponse(guideId, guide.getContentHash(), html);
+    }
+
     @Transactional
     public GuideDtos.GuideDetailResponse patch(Long userId, Long guideId, GuideDtos.PatchRequest req) {
-        Guide guide = findOwned(userId, guideId);
+        Guide guide = findOwnedForUpdate(userId, guideId);
+        String oldHash = guide.getContentHash();
         if (req.title() != null) guide.setGuideTitle(req.title());
-        if (req.content() != null) guide.setContent(req.content());
-        if (req.visibility() != null) guide.setVisibility(req.visibility());
+        if (req.content() != null) {
+            String previous = guide.getContent();
+            if (!previous.equals(req.content())) {
+                guide.setContent(req.content());
+                guideRevisionService.recordEdit(guide, previous, req.content());
+            }
+        }
+        if (req.visibility() != null && req.visibility() != guide.getVisibility()) {
+            guide.setVisibility(req.visibility());
+            refreshGuideCount(guide);
+        }
+        if (oldHash != null && !oldHash.equals(guide.getContentHash())) {
+            evictRender(oldHash);
+        }
         return GuideDtos.GuideDetailResponse.from(guide);
     }
 
+    /** 리비전 목록 (작성자만) */
+    @Transactional(readOnly = true)
+    public List<GuideDtos.RevisionItem> revisions(Long userId, Long guideId) {
+        findOwned(userId, guideId);
+        return guideRevisionService.list(guideId);
+    }
+
+    /** 특정 리비전 본문 복원 (작성자만) */
+    @Transactional(readOnly = true)
+    public GuideDtos.RevisionDetail revision(Long userId, Long guideId, int revisionNo) {
+        findOwned(userId, guideId);
+        return guideRevisionService.read(guideId, revisionNo);
+    }
+
     @Transactional
     public void delete(Long userId, Long guideId) {
-        Guide guide = findOwned(userId, guideId);
+        Guide guide = findOwnedForUpdate(userId, guideId);
+        String hash = guide.getContentHash();
         guideRepository.delete(guide);
+        refreshGuideCount(guide);
+        if (hash != null) evictRender(hash);
+    }
+
+    /** 대상(Title/Unit)의 공개 공략 수 재집계 */
+    private void refreshGuideCount(Guide guide) {
+        // 집계 행을 먼저 잠근 뒤 셈: 세고 나서 잠그면 그 사이 다른 재계산의 결과를 덮어쓸 수 있음
+        if (guide.getTitle() != null) {
+            Long titleId = guide.getTitle().getTitleId();
+            TitleStats stats = statsRepository.findForUpdate(titleId)
+                    .orElseGet(() -> TitleStats.builder().title(titleRepository.getReferenceById(titleId)).build());
+            long count = guideRepository.countByTitle_TitleIdAndStatusAndVisibility(
+                    titleId, ContentStatus.ACTIVE, Visibility.PUBLIC);
+            stats.setGuideCount((int) count);
+            statsRepository.save(stats);
+            versionService.bump(titleId);
+        } else {
+            Long unitId = guide.getUnit().getUnitId();
+            Unit unit = unitRepository.findForUpdate(unitId)
+                    .orElseThrow(() -> ApiException.notFound("유닛을 찾을 수 없습니다."));
+            long count = guideRepository.countByUnit_UnitIdAndStatusAndVisibility(
+                    unitId, ContentStatus.ACTIVE, Visibility.PUBLIC);
+            unit.setGuideCount((int) count);
+            versionService.bump(unit.getTitle().getTitleId());
+        }
+    }
+
+    /** 변경 사항을 먼저 flush 해야 NOT EXISTS 검사가 현재 상태를 봄 */
+    private void evictRender(String contentHash) {
+        guideRepository.flush();
+        guideRenderRepository.deleteIfUnreferenced(contentHash);
     }
 
     private Guide findOwned(Long userId, Long guideId) {
-        Guide guide = guideRepository.findByGuideIdAndStatus(guideId, ContentStatus.ACTIVE)
-                .orElseThrow(() -> ApiException.notFound("공략을 찾을 수 없습니다."));
+        return checkOwner(userId, guideRepository.findByGuideIdAndStatus(guideId, ContentStatus.ACTIVE));
+    }
+
+    /** 행 잠금 조회: 같은 공략에 대한 수정/삭제는 커밋 순서대로 하나씩 처리됨 */
+    private Guide findOwnedForUpdate(Long userId, Long guideId) {
+        return checkOwner(userId, guideRepository.findActiveForUpdate(guideId));
+    }
+
+    private static Guide checkOwner(Long userId, Optional<Guide> found) {
+        Guide guide = found.orElseThrow(() -> ApiException.notFound("공략을 찾을 수 없습니다."));
         if (!guide.getAuthor().getUserId().equals(userId)) {
             throw ApiException.forbidden("작성자만 수정/삭제할 수 있습니다.");
         }
@@ -0,0 +1,109 @@
+package com.arcstride.domain.guide.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 공략 조회수 버퍼.
+ *
+ * - detail 요청은 메모리 카운터(LongAdder, 내부 스트라이프)만 증가시키고 DB에는 쓰지 않음
+ * - 주기적으로 누적분만 batch UPDATE (view_count = view_count + ?)
+ * - DB 반영 실패 시 누적분을 유지하여 다음 주기에 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuideViewCounter {
+
+    /** updated_at(ON UPDATE CURRENT_TIMESTAMP)은 본문 수정 시각이므로 조회수 반영으로 바뀌지 않게 유지 */
+    private static final String FLUSH_SQL =
+            "UPDATE guides SET view_count = view_count + ?, updated_at = updated_at WHERE guide_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GuidePopularityRanking ranking;
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /** flushed는 flush 스레드만 접근. idle은 직전 주기에 증가분이 없었는지 표시 */
+    private static final class Counter {
+        final LongAdder views = new LongAdder();
+        long flushed;
+        boolean idle;
+    }
+
+    public void record(Long guideId) {
+        counters.computeIfAbsent(guideId, id -> new Counter()).views.increment();
+        ranking.hit(guideId);
+    }
+
+    @Scheduled(fixedDelayString = "${arcstride.guide-views.flush-interval:10s}")
+    public void flush() {
+        // synchronized 대신 ReentrantLock: 배치 UPDATE 동안 가상 스레드가 캐리어 스레드를 점유하지 않도록
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void doFlush() {
+        List<Pending> pending = new ArrayList<>();
+        for (Map.Entry<Long, Counter> e : counters.entrySet()) {
+            Counter c = e.getValue();
+            long delta = c.views.sum() - c.flushed;
+            boolean removed = false;
+            if (delta == 0) {
+                if (!c.idle) {
+                    c.idle = true;
+                    continue;
+                }
+                // 두 주기 연속 조회가 없으면 제거 (제거 직전에 들어온 조회는 남은 차이로 함께 반영)
+                if (!counters.remove(e.getKey(), c)) continue;
+                removed = true;
+                delta = c.views.sum() - c.flushed;
+                if (delta == 0) continue;
+            }
+            c.idle = false;
+            pending.add(new Pending(e.getKey(), c, delta, removed));
+        }
+        if (pending.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, pending.stream()
+                    .map(p -> new Object[]{p.delta(), p.guideId()})
+                    .toList());
+        } catch (RuntimeException ex) {
+            log.warn("Guide view flush failed, will retry: guides={}", pending.size(), ex);
+            // 남아 있는 카운터는 flushed를 올리지 않았으므로 자동 재시도, 제거된 카운터만 되돌림
+            for (Pending p : pending) {
+                if (p.removed()) counters.computeIfAbsent(p.guideId(), id -> new Counter()).views.add(p.delta());
+            }
+            return;
+        }
+
+        for (Pending p : pending) {
+            p.counter().flushed += p.delta();
+        }
+        log.debug("Guide views flushed: guides={}", pending.size());
+    }
+
+    private record Pending(Long guideId, Counter counter, long delta, boolean removed) {}
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,21 @@
+package com.arcstride.domain.guide.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 공략 조회수/인기 순위 설정.
+ * DB 반영 주기는 arcstride.guide-views.flush-interval, 순위 스냅샷 갱신 주기는 arcstride.guide-views.ranking-interval.
+ *
+ * @param halfLife    인기 점수 반감기 (오래된 조회일수록 영향이 지수적으로 감소)
+ * @param topK        메모리에 유지/제공할 인기 공략 수 (GET /api/guides/popular 최대 limit)
+ * @param trackLimit  점수를 추적할 최대 공략 수 (초과 시 하위 점수부터 제거)
+ */
+@ConfigurationProperties("arcstride.guide-views")
+public record GuideViewProperties(
+        @DefaultValue("24h") Duration halfLife,
+        @DefaultValue("100") int topK,
+        @DefaultValue("10000") int trackLimit
+) {}
@@ -4,8 +4,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 
 import com.arcstride.common.dto.ItemsResponse;
 import com.arcstride.common.dto.PageResponse;
+import com.arcstride.config.responsecache.EncodedResponseCache;
 import com.arcstride.domain.library.dto.LibraryDtos;
 import com.arcstride.domain.library.service.LibraryService;
+import com.arcstride.domain.library.service.StoreCatalog;
 import com.arcstride.security.service.CurrentUserId;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +15,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
 
 @Tag(name = "Library", description = "라이브러리/소장 관리")
 @RestController
@@ -20,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class LibraryController {
 
     private final LibraryService libraryService;
+    private final EncodedResponseCache responseCache;
 
     /** PUT /api/me/library/titles/{titleId} */
     @PutMapping("/api/me/library/titles/{titleId}")
@@ -60,9 +66,14 @@ public class LibraryController {
         return ResponseEntity.noContent().build();
     }
 
-    /** GET /api/stores (공개) */
+    /** GET /api/stores (공개, 스냅샷 내용 해시 ETag로 조건부 GET + 직렬화 캐시) */
     @GetMapping("/api/stores")
-    public ResponseEntity<ItemsResponse<LibraryDtos.StoreItem>> listStores() {
-        return ResponseEntity.ok(ItemsResponse.of(libraryService.listStores()));
+    public ResponseEntity<ItemsResponse<LibraryDtos.StoreItem>> listStores(ServletWebRequest webRequest) throws IOException {
+        StoreCatalog.Snapshot stores = libraryService.listStores();
+        if (webRequest.checkNotModified(stores.etag())) {
+            return null;
+        }
+        responseCache.write(webRequest, "stores", stores.etag(), () -> ItemsResponse.of(stores.items()));
+        return null;
     }
 }
@@ -1,12 +1,17 @@
 package com.arcstride.domain.library.entity;
 
+import com.arcstride.config.entitycache.EntityCacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.STORE)
 @Table(name = "stores")
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -18,8 +18,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 public class LibraryService {
@@ -28,6 +26,7 @@ public class LibraryService {
     private final StoreRepository storeRepository;
     private final TitleRepository titleRepository;
     private final UserRepository userRepository;
+    private final StoreCatalog storeCatalog;
 
     @Transactional
     public LibraryDtos.LibraryItemResponse upsert(Long userId, Long titleId, LibraryDtos.UpsertRequest req) {
@@ -81,11 +80,9 @@ public class LibraryService {
         libraryItemRepository.delete(item);
     }
 
-    @Transactional(readOnly = true)
-    public List<LibraryDtos.StoreItem> listStores() {
-        return storeRepository.findAll().stream()
-                .map(LibraryDtos.StoreItem::from)
-                .toList();
+    /** 스토어 목록 스냅샷 (메모리, DB 조회 없음) */
+    public StoreCatalog.Snapshot listStores() {
+        return storeCatalog.current();
     }
 
     private TitleType parseTitleType(String type) {
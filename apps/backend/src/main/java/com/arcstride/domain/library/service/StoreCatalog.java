@@ -0,0 +1,58 @@
+package com.arcstride.domain.library.service;
+
+import com.arcstride.common.util.HashUtil;
+import com.arcstride.domain.library.dto.LibraryDtos;
+import com.arcstride.domain.library.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 스토어 목록 스냅샷 (GET /api/stores 전용).
+ *
+ * - stores는 애플리케이션 쓰기 API가 없고 운영 SQL로만 바뀌므로 버전 카운터 대신 주기적으로 다시 읽어 교체
+ * - ETag는 목록 내용의 SHA-256 → 내용이 같으면 재조회 후에도 ETag 유지
+ * - 요청은 스냅샷만 읽음 (If-None-Match 일치 시 DB 접근 없이 304)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreCatalog {
+
+    private final StoreRepository storeRepository;
+
+    private volatile Snapshot snapshot;
+
+    public record Snapshot(List<LibraryDtos.StoreItem> items, String etag) {}
+
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${arcstride.stores.refresh-interval:5m}",
+            initialDelayString = "${arcstride.stores.refresh-interval:5m}")
+    public void reload() {
+        refresh();
+    }
+
+    private Snapshot refresh() {
+        List<LibraryDtos.StoreItem> items = storeRepository.findAll().stream()
+                .map(LibraryDtos.StoreItem::from)
+                .toList();
+        String etag = "\"stores-" + HashUtil.sha256Hex(items.toString()).substring(0, 16) + "\"";
+        Snapshot previous = snapshot;
+        Snapshot next = new Snapshot(items, etag);
+        snapshot = next;
+        if (previous != null && !previous.etag().equals(etag)) {
+            log.info("Store catalog changed: stores={}", items.size());
+        }
+        return next;
+    }
+}
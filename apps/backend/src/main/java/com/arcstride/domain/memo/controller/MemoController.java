@@ -13,8 +13,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @Tag(name = "Memo", description = "메모 관리")
 @RestController
@@ -23,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 public class MemoController {
 
     private final MemoService memoService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<MemoDtos.CreateResponse> create(
@@ -41,6 +48,34 @@ public class MemoController {
                 ItemsResponse.of(memoService.list(userId, targetType, targetId)));
     }
 
+    /**
+     * GET /api/me/memos (Accept: application/x-ndjson)
+     * 전체 메모를 한 줄에 하나씩 스트리밍 (list와 같은 targetType/targetId 필터).
+     * 500행 청크마다 flush 하므로 첫 청크부터 바로 렌더링 가능하고, 청크 사이에는 DB 커넥션을 쓰지 않음.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> stream(
+            @RequestParam(required = false) String targetType,
+            @RequestParam(required = false) Long targetId,
+            @CurrentUserId Long userId) {
+        MemoService.StreamFilter filter = memoService.streamFilter(targetType, targetId);
+        StreamingResponseBody body = out -> memoService.streamAll(userId, filter, chunk -> {
+            try {
+                for (MemoDtos.MemoItem item : chunk) {
+                    out.write(objectMapper.writeValueAsBytes(item));
+                    out.write('\n');
+                }
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);   // 클라이언트 연결 종료 → 다음 청크 조회 없이 중단
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
+
     /** GET /api/me/memos/paged?q=&targetType=TITLE&page=0&size=20 */
     @GetMapping("/paged")
     public ResponseEntity<PageResponse<MemoDtos.MemoItem>> pagedList(
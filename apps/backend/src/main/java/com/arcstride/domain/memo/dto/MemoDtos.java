@@ -3,10 +3,12 @@ package com.arcstride.domain.memo.dto;
 import com.arcstride.common.enums.Enums.TargetType;
 import com.arcstride.common.enums.Enums.Visibility;
 import com.arcstride.domain.memo.entity.UserMemo;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public final class MemoDtos {
     private MemoDtos() {}
@@ -39,13 +41,17 @@ public final class MemoDtos {
 
     public record CreateResponse(Long memoId) {}
 
+    /** 검색어 일치 구간: memoText 기준 [start, end) */
+    public record Highlight(int start, int end) {}
+
     public record MemoItem(
             Long memoId,
             Target target,
             String memoText,
             Boolean spoilerFlag,
             Visibility visibility,
-            LocalDateTime updatedAt
+            LocalDateTime updatedAt,
+            @JsonInclude(JsonInclude.Include.NON_NULL) List<Highlight> highlights
     ) {
         public static MemoItem from(UserMemo m) {
             Target target;
@@ -56,8 +62,12 @@ public final class MemoDtos {
             }
             return new MemoItem(
                     m.getMemoId(), target, m.getMemoText(),
-                    m.getSpoilerFlag(), m.getVisibility(), m.getUpdatedAt()
+                    m.getSpoilerFlag(), m.getVisibility(), m.getUpdatedAt(), null
             );
         }
+
+        public MemoItem withHighlights(List<Highlight> highlights) {
+            return new MemoItem(memoId, target, memoText, spoilerFlag, visibility, updatedAt, highlights);
+        }
     }
 }
@@ -1,12 +1,15 @@
 package com.arcstride.domain.memo.repository;
 
+import com.arcstride.common.enums.Enums.Visibility;
 import com.arcstride.domain.memo.entity.UserMemo;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,28 +33,82 @@ public interface MemoRepository extends JpaRepository<UserMemo, Long> {
     @Query("SELECT m FROM UserMemo m WHERE m.user.userId = :userId AND m.unit IS NOT NULL ORDER BY m.updatedAt DESC")
     Page<UserMemo> findByUserIdAndTargetUnit(Long userId, Pageable pageable);
 
-    // ── 텍스트 검색 + 페이지네이션 ──
+    // ── NDJSON 스트리밍 ──
 
+    /** 스트리밍 응답용 행 (엔티티를 영속성 컨텍스트에 쌓지 않도록 스칼라만 조회) */
+    interface StreamRow {
+        Long getMemoId();
+        Long getTitleId();
+        Long getUnitId();
+        Long getUnitTitleId();
+        String getMemoText();
+        Boolean getSpoilerFlag();
+        Visibility getVisibility();
+        LocalDateTime getUpdatedAt();
+    }
+
+    /**
+     * keyset 청크 조회 (updatedAt DESC, memoId DESC, 커서 이후 limit행).
+     * 청크마다 리포지토리 기본 읽기 트랜잭션으로 끝나므로 커넥션을 응답 전송 동안 붙잡지 않음.
+     *
+     * @param titleTarget  null이면 전체, true면 작품 메모, false면 유닛 메모
+     * @param targetId     titleTarget과 함께 지정 시 해당 작품/유닛의 메모만
+     */
     @Query("""
-        SELECT m FROM UserMemo m WHERE m.user.userId = :userId
-          AND LOWER(m.memoText) LIKE LOWER(CONCAT('%', :q, '%'))
-        ORDER BY m.updatedAt DESC
+        SELECT m.memoId AS memoId, t.titleId AS titleId, u.unitId AS unitId, ut.titleId AS unitTitleId,
+               m.memoText AS memoText, m.spoilerFlag AS spoilerFlag, m.visibility AS visibility,
+               m.updatedAt AS updatedAt
+        FROM UserMemo m
+        LEFT JOIN m.title t
+        LEFT JOIN m.unit u
+        LEFT JOIN u.title ut
+        WHERE m.user.userId = :userId
+          AND (:titleTarget IS NULL
+               OR (:titleTarget = true AND t.titleId IS NOT NULL AND (:targetId IS NULL OR t.titleId = :targetId))
+               OR (:titleTarget = false AND u.unitId IS NOT NULL AND (:targetId IS NULL OR u.unitId = :targetId)))
+          AND (:afterUpdatedAt IS NULL
+               OR m.updatedAt < :afterUpdatedAt
+               OR (m.updatedAt = :afterUpdatedAt AND m.memoId < :afterMemoId))
+        ORDER BY m.updatedAt DESC, m.memoId DESC
     """)
-    Page<UserMemo> searchByUser(@Param("userId") Long userId, @Param("q") String query, Pageable pageable);
+    List<StreamRow> findStreamChunk(@Param("userId") Long userId,
+                                    @Param("titleTarget") Boolean titleTarget,
+                                    @Param("targetId") Long targetId,
+                                    @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt,
+                                    @Param("afterMemoId") Long afterMemoId,
+                                    Limit limit);
+
+    // ── 텍스트 검색 (MemoSearchIndex) ──
+
+    /** 색인 생성용 최소 컬럼 */
+    interface IndexRow {
+        Long getMemoId();
+        String getMemoText();
+        Long getTitleId();
+        LocalDateTime getUpdatedAt();
+    }
 
     @Query("""
-        SELECT m FROM UserMemo m WHERE m.user.userId = :userId
-          AND m.title IS NOT NULL
-          AND LOWER(m.memoText) LIKE LOWER(CONCAT('%', :q, '%'))
-        ORDER BY m.updatedAt DESC
+        SELECT m.memoId AS memoId, m.memoText AS memoText, t.titleId AS titleId, m.updatedAt AS updatedAt
+        FROM UserMemo m LEFT JOIN m.title t
+        WHERE m.user.userId = :userId
     """)
-    Page<UserMemo> searchByUserAndTargetTitle(@Param("userId") Long userId, @Param("q") String query, Pageable pageable);
+    List<IndexRow> findIndexRowsByUser(@Param("userId") Long userId);
+
+    /** 색인 재검증용 (메모 수, 최근 수정 시각). (user_id, updated_at, memo_id) 인덱스만 읽음 */
+    interface IndexStamp {
+        Long getCount();
+        LocalDateTime getMaxUpdatedAt();
+    }
+
+    @Query("SELECT COUNT(m) AS count, MAX(m.updatedAt) AS maxUpdatedAt FROM UserMemo m WHERE m.user.userId = :userId")
+    IndexStamp findIndexStamp(@Param("userId") Long userId);
 
+    /** 검색 결과 페이지 로드 (정렬은 호출 측에서 랭킹 순으로 복원) */
     @Query("""
-        SELECT m FROM UserMemo m WHERE m.user.userId = :userId
-          AND m.unit IS NOT NULL
-          AND LOWER(m.memoText) LIKE LOWER(CONCAT('%', :q, '%'))
-        ORDER BY m.updatedAt DESC
+        SELECT m FROM UserMemo m
+        LEFT JOIN FETCH m.unit u
+        WHERE m.user.userId = :userId AND m.memoId IN :memoIds
     """)
-    Page<UserMemo> searchByUserAndTargetUnit(@Param("userId") Long userId, @Param("q") String query, Pageable pageable);
+    List<UserMemo> findByUserAndMemoIdIn(@Param("userId") Long userId, @Param("memoIds") List<Long> memoIds);
 }
@@ -0,0 +1,334 @@
+package com.arcstride.domain.memo.service;
+
+import com.arcstride.domain.memo.dto.MemoDtos;
+import com.arcstride.domain.memo.entity.UserMemo;
+import com.arcstride.domain.memo.repository.MemoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 메모 역색인 (인스턴스 메모리).
+ *
+ * - 첫 검색 시 해당 사용자의 메모를 1회 읽어 색인을 만들고, 이후 검색은 MySQL에서 memo_text를 스캔하지 않음
+ * - 랭킹: BM25 (k1=1.2, b=0.75), 모든 검색어 토큰을 포함하는 메모만 결과에 포함 (AND)
+ * - 라틴 단어는 접두사 매칭 ("hel" → "hello"), CJK는 2-gram 매칭 (1글자 검색어는 색인의 1-gram과 매칭)
+ *
+ * 일관성 (색인은 인스턴스마다 따로 있음):
+ * - 이 인스턴스의 create/patch/delete: 커밋 직후 색인에 반영 (아직 색인이 없는 사용자는 무시)
+ * - 다른 인스턴스의 변경: 검색 시 마지막 확인 후 revalidateInterval이 지났으면 (메모 수, 최근 updated_at)을
+ *   DB에서 다시 읽어 색인을 만들 때와 다르면 새로 색인 → 반영 지연 상한은 revalidateInterval
+ *   (수정은 updated_at을 최신으로, 삭제는 메모 수를 바꾸므로 둘 중 하나는 반드시 달라짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemoSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final MemoRepository memoRepository;
+    private final MemoSearchProperties properties;
+
+    private final ConcurrentHashMap<Long, UserIndex> indexes = new ConcurrentHashMap<>();
+
+    /** 검색 결과: 현재 페이지의 memoId(랭킹 순) + 전체 일치 수 */
+    public record Result(List<Long> memoIds, long total) {}
+
+    /**
+     * @param titleTarget null이면 전체, true면 TITLE 대상 메모만, false면 UNIT 대상 메모만
+     */
+    public Result search(Long userId, String query, Boolean titleTarget, long offset, int limit) {
+        List<MemoTokenizer.Token> tokens = distinct(MemoTokenizer.tokenize(query));
+        if (tokens.isEmpty()) return new Result(List.of(), 0);
+
+        UserIndex index = acquire(userId);
+        index.lock.readLock().lock();
+        try {
+            List<Scored> matches = index.match(tokens, titleTarget);
+            matches.sort(RANKING);
+            List<Long> page = matches.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(s -> s.doc.memoId)
+                    .toList();
+            return new Result(page, matches.size());
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    /** 메모 생성/수정 반영 (트랜잭션 커밋 후) */
+    public void onSaved(Long userId, UserMemo memo) {
+        afterCommit(() -> {
+            UserIndex index = indexes.get(userId);
+            if (index == null) return;
+            Doc doc = new Doc(memo.getMemoId(), memo.getTitle() != null, memo.getUpdatedAt(),
+                    termFrequencies(memo.getMemoText()));
+            index.write(i -> i.put(doc));
+        });
+    }
+
+    /** 메모 삭제 반영 (트랜잭션 커밋 후) */
+    public void onDeleted(Long userId, Long memoId) {
+        afterCommit(() -> {
+            UserIndex index = indexes.get(userId);
+            if (index == null) return;
+            index.write(i -> i.remove(memoId));
+        });
+    }
+
+    /**
+     * 검색어 토큰이 나타나는 위치 (memoText 기준 UTF-16 offset).
+     * 라틴 단어는 단어 시작 위치의 접두사만, CJK n-gram은 모든 위치를 표시하고 인접 구간은 병합.
+     */
+    public static List<MemoDtos.Highlight> highlight(String text, String query) {
+        if (text == null || text.isEmpty()) return List.of();
+        boolean[] marked = new boolean[text.length()];
+        for (MemoTokenizer.Token token : distinct(MemoTokenizer.tokenize(query))) {
+            String t = token.text();
+            for (int i = 0; i + t.length() <= text.length(); i++) {
+                if (!text.regionMatches(true, i, t, 0, t.length())) continue;
+                if (token.word() && i > 0 && Character.isLetterOrDigit(text.charAt(i - 1))) continue;
+                for (int j = i; j < i + t.length(); j++) marked[j] = true;
+            }
+        }
+
+        List<MemoDtos.Highlight> ranges = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= marked.length; i++) {
+            boolean on = i < marked.length && marked[i];
+            if (on && start < 0) start = i;
+            if (!on && start >= 0) {
+                ranges.add(new MemoDtos.Highlight(start, i));
+                start = -1;
+            }
+        }
+        return ranges;
+    }
+
+    /** 오래 사용되지 않은 사용자 색인 제거 */
+    @Scheduled(fixedDelayString = "${arcstride.memo-search.sweep-interval:5m}")
+    public void evictIdle() {
+        long cutoff = System.nanoTime() - properties.idleTtl().toNanos();
+        indexes.entrySet().removeIf(e -> e.getValue().lastAccess - cutoff < 0);
+    }
+
+    // ── 내부 구현 ──
+
+    private UserIndex acquire(Long userId) {
+        UserIndex index = indexes.computeIfAbsent(userId, id -> new UserIndex());
+        index.lastAccess = System.nanoTime();
+        if (index.built && index.lastAccess - index.checkedAt >= properties.revalidateInterval().toNanos()) {
+            index = revalidate(userId, index);
+        }
+        if (!index.built) {
+            index.lock.writeLock().lock();
+            try {
+                if (!index.built) {
+                    build(userId, index);
+                }
+            } finally {
+                index.lock.writeLock().unlock();
+            }
+            evictOverflow();
+        }
+        return index;
+    }
+
+    /** DB의 (메모 수, 최근 updated_at)이 색인 생성 시점과 같으면 그대로, 다르면 빈 색인으로 교체 (호출 측에서 다시 생성) */
+    private UserIndex revalidate(Long userId, UserIndex index) {
+        Stamp current = stamp(userId);
+        if (current.equals(index.stamp)) {
+            index.checkedAt = System.nanoTime();
+            return index;
+        }
+        UserIndex fresh = new UserIndex();
+        indexes.replace(userId, index, fresh);
+        // 다른 검색이 먼저 교체했으면 그 색인을 사용
+        return indexes.computeIfAbsent(userId, id -> fresh);
+    }
+
+    private Stamp stamp(Long userId) {
+        MemoRepository.IndexStamp row = memoRepository.findIndexStamp(userId);
+        return new Stamp(row.getCount(), row.getMaxUpdatedAt());
+    }
+
+    private void build(Long userId, UserIndex index) {
+        long started = System.nanoTime();
+        // 행보다 먼저 읽음: 그 사이 변경이 있으면 다음 확인에서 다시 색인 (놓치지 않는 쪽으로)
+        index.stamp = stamp(userId);
+        index.checkedAt = started;
+        for (MemoRepository.IndexRow row : memoRepository.findIndexRowsByUser(userId)) {
+            index.put(new Doc(row.getMemoId(), row.getTitleId() != null, row.getUpdatedAt(),
+                    termFrequencies(row.getMemoText())));
+        }
+        index.built = true;
+        log.debug("Memo index built: userId={}, docs={}, terms={}, took={}ms",
+                userId, index.docs.size(), index.postings.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void evictOverflow() {
+        int overflow = indexes.size() - properties.maxUsers();
+        if (overflow <= 0) return;
+        indexes.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(indexes::remove);
+    }
+
+    private static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> tf = new HashMap<>();
+        for (MemoTokenizer.Token token : MemoTokenizer.tokenizeForIndex(text)) {
+            tf.merge(token.text(), 1, Integer::sum);
+        }
+        return tf;
+    }
+
+    private static List<MemoTokenizer.Token> distinct(List<MemoTokenizer.Token> tokens) {
+        return List.copyOf(new LinkedHashSet<>(tokens));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final Comparator<Scored> RANKING = Comparator
+            .comparingDouble((Scored s) -> s.score).reversed()
+            .thenComparing((Scored s) -> s.doc.updatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing((Scored s) -> s.doc.memoId, Comparator.reverseOrder());
+
+    private record Doc(Long memoId, boolean titleTarget, LocalDateTime updatedAt, Map<String, Integer> termFreqs) {
+        int length() {
+            int n = 0;
+            for (int f : termFreqs.values()) n += f;
+            return n;
+        }
+    }
+
+    private record Scored(Doc doc, double score) {}
+
+    /** 색인 재검증 기준: 사용자 메모 수와 최근 수정 시각 (DB 값끼리만 비교) */
+    private record Stamp(long count, LocalDateTime maxUpdatedAt) {}
+
+    private static final class UserIndex {
+
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        final Map<Long, Doc> docs = new HashMap<>();
+        final Map<Long, Integer> lengths = new HashMap<>();
+        /** term → (memoId → tf). 라틴 접두사 검색을 위해 정렬 맵 사용 */
+        final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+        long totalLength;
+        volatile boolean built;
+        volatile long lastAccess = System.nanoTime();
+        /** 색인 생성 시 DB 기준값과 마지막 확인 시각 (System.nanoTime) */
+        volatile Stamp stamp;
+        volatile long checkedAt;
+
+        void write(Consumer<UserIndex> update) {
+            lock.writeLock().lock();
+            try {
+                if (built) update.accept(this);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void put(Doc doc) {
+            remove(doc.memoId);
+            int length = doc.length();
+            docs.put(doc.memoId, doc);
+            lengths.put(doc.memoId, length);
+            totalLength += length;
+            doc.termFreqs.forEach((term, tf) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(doc.memoId, tf));
+        }
+
+        void remove(Long memoId) {
+            Doc old = docs.remove(memoId);
+            if (old == null) return;
+            totalLength -= lengths.remove(memoId);
+            for (String term : old.termFreqs.keySet()) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) continue;
+                posting.remove(memoId);
+                if (posting.isEmpty()) postings.remove(term);
+            }
+        }
+
+        List<Scored> match(List<MemoTokenizer.Token> tokens, Boolean titleTarget) {
+            int n = docs.size();
+            if (n == 0) return new ArrayList<>();
+            double avgLength = Math.max(1.0, (double) totalLength / n);
+
+            // 토큰별 문서 점수: 접두사 확장 시 같은 문서에서는 최고 점수 항만 사용
+            Map<Long, Double> scores = null;
+            for (MemoTokenizer.Token token : tokens) {
+                Map<Long, Double> tokenScores = new HashMap<>();
+                Map<Long, Double> candidates = scores;
+                for (Map.Entry<String, Map<Long, Integer>> term : expand(token).entrySet()) {
+                    Map<Long, Integer> posting = term.getValue();
+                    double idf = Math.log(1 + (n - posting.size() + 0.5) / (posting.size() + 0.5));
+                    posting.forEach((memoId, tf) -> {
+                        if (candidates != null && !candidates.containsKey(memoId)) return;
+                        double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * lengths.get(memoId) / avgLength));
+                        tokenScores.merge(memoId, idf * norm, Math::max);
+                    });
+                }
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    for (Map.Entry<Long, Double> e : scores.entrySet()) {
+                        e.setValue(e.getValue() + tokenScores.get(e.getKey()));
+                    }
+                }
+                if (scores.isEmpty()) break;
+            }
+
+            List<Scored> result = new ArrayList<>(scores.size());
+            for (Map.Entry<Long, Double> e : scores.entrySet()) {
+                Doc doc = docs.get(e.getKey());
+                if (titleTarget != null && doc.titleTarget != titleTarget) continue;
+                result.add(new Scored(doc, e.getValue()));
+            }
+            return result;
+        }
+
+        private Map<String, Map<Long, Integer>> expand(MemoTokenizer.Token token) {
+            if (!token.word()) {
+                Map<Long, Integer> posting = postings.get(token.text());
+                return posting != null ? Map.of(token.text(), posting) : Map.of();
+            }
+            return postings.subMap(token.text(), true, token.text() + Character.MAX_VALUE, false);
+        }
+    }
+}
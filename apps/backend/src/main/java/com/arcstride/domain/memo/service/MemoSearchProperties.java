@@ -0,0 +1,21 @@
+package com.arcstride.domain.memo.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 메모 검색 인덱스 설정.
+ *
+ * @param maxUsers 메모리에 유지할 사용자 인덱스 수 (초과 시 가장 오래 쓰이지 않은 인덱스 제거)
+ * @param idleTtl  마지막 검색 이후 인덱스를 유지하는 시간
+ * @param revalidateInterval 검색 시 색인을 DB(메모 수, 최근 수정 시각)와 다시 대조하는 최소 간격
+ *                           (다른 인스턴스에서 바뀐 메모가 이 인스턴스 검색에 반영되기까지의 지연 상한)
+ */
+@ConfigurationProperties("arcstride.memo-search")
+public record MemoSearchProperties(
+        @DefaultValue("500") int maxUsers,
+        @DefaultValue("30m") Duration idleTtl,
+        @DefaultValue("10s") Duration revalidateInterval
+) {}
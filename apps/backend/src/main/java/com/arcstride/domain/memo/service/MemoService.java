@@ -10,20 +10,32 @@ import com.arcstride.domain.memo.repository.MemoRepository;
 import com.arcstride.domain.user.entity.User;
 import com.arcstride.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MemoService {
 
+    /** NDJSON 스트리밍 1회 조회 행 수 */
+    static final int STREAM_CHUNK_SIZE = 500;
+
     private final MemoRepository memoRepository;
     private final UserRepository userRepository;
     private final TargetResolver targetResolver;
+    private final MemoSearchIndex searchIndex;
 
     @Transactional
     public MemoDtos.CreateResponse create(Long userId, MemoDtos.CreateRequest req) {
@@ -41,6 +53,7 @@ public class MemoService {
                 .visibility(req.visibility() != null ? req.visibility() : Visibility.PRIVATE)
                 .build();
         memo = memoRepository.save(memo);
+        searchIndex.onSaved(userId, memo);
 
         return new MemoDtos.CreateResponse(memo.getMemoId());
     }
@@ -60,6 +73,50 @@ public class MemoService {
                 .stream().map(MemoDtos.MemoItem::from).toList();
     }
 
+    /**
+     * NDJSON 스트리밍 필터 검증 (응답 시작 전에 호출해 잘못된 값은 400으로).
+     * targetType만 주면 작품/유닛 메모 전체, targetId까지 주면 해당 대상의 메모만
+     */
+    public StreamFilter streamFilter(String targetType, Long targetId) {
+        if (targetType == null || targetType.isBlank()) {
+            if (targetId != null) {
+                throw ApiException.badRequest("targetId는 targetType과 함께 지정해야 합니다.");
+            }
+            return new StreamFilter(null, null);
+        }
+        TargetType tt;
+        try {
+            tt = TargetType.valueOf(targetType.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw ApiException.badRequest("targetType 값이 올바르지 않습니다: " + targetType);
+        }
+        return new StreamFilter(tt == TargetType.TITLE, targetId);
+    }
+
+    /**
+     * 전체 메모를 keyset 청크(STREAM_CHUNK_SIZE행)로 나눠 흘려보냄 (NDJSON 응답용).
+     * 청크 조회는 각각 짧은 읽기 트랜잭션이고 sink(응답 쓰기)는 트랜잭션 밖에서 호출되므로,
+     * 느린 클라이언트가 커넥션/DB permit을 붙잡지 않음. 메모리는 청크 크기만큼만 사용.
+     */
+    public void streamAll(Long userId, StreamFilter filter, Consumer<List<MemoDtos.MemoItem>> sink) {
+        LocalDateTime afterUpdatedAt = null;
+        Long afterMemoId = null;
+        while (true) {
+            List<MemoRepository.StreamRow> rows = memoRepository.findStreamChunk(
+                    userId, filter.titleTarget(), filter.targetId(), afterUpdatedAt, afterMemoId,
+                    Limit.of(STREAM_CHUNK_SIZE));
+            if (rows.isEmpty()) return;
+            sink.accept(rows.stream().map(MemoService::toItem).toList());
+            if (rows.size() < STREAM_CHUNK_SIZE) return;
+            MemoRepository.StreamRow last = rows.getLast();
+            afterUpdatedAt = last.getUpdatedAt();
+            afterMemoId = last.getMemoId();
+        }
+    }
+
+    /** @param titleTarget null이면 전체, true면 작품 메모, false면 유닛 메모 */
+    public record StreamFilter(Boolean titleTarget, Long targetId) {}
+
     /** 페이지네이션 목록 (targetType 필터 지원) */
     @Transactional(readOnly = true)
     public Page<MemoDtos.MemoItem> pagedList(Long userId, String targetType, Pageable pageable) {
@@ -81,9 +138,14 @@ public class MemoService {
                 .map(MemoDtos.MemoItem::from);
     }
 
-    /** 텍스트 검색 + 페이지네이션 (targetType 필터 지원) */
+    /**
+     * 텍스트 검색 + 페이지네이션 (targetType 필터 지원).
+     * 후보 선정/랭킹은 MemoSearchIndex가 담당하고, DB에서는 현재 페이지의 memoId만 PK로 로드.
+     * 정렬은 관련도(BM25) 순이며 pageable의 sort는 무시.
+     */
     @Transactional(readOnly = true)
     public Page<MemoDtos.MemoItem> searchPagedList(Long userId, String q, String targetType, Pageable pageable) {
+        Boolean titleTarget = null;
         if (targetType != null && !targetType.isBlank()) {
             TargetType tt;
             try {
@@ -91,15 +153,24 @@ public class MemoService {
             } catch (IllegalArgumentException e) {
                 throw ApiException.badRequest("targetType 값이 올바르지 않습니다: " + targetType);
             }
-            return switch (tt) {
-                case TITLE -> memoRepository.searchByUserAndTargetTitle(userId, q, pageable)
-                        .map(MemoDtos.MemoItem::from);
-                case UNIT -> memoRepository.searchByUserAndTargetUnit(userId, q, pageable)
-                        .map(MemoDtos.MemoItem::from);
-            };
+            titleTarget = tt == TargetType.TITLE;
         }
-        return memoRepository.searchByUser(userId, q, pageable)
-                .map(MemoDtos.MemoItem::from);
+
+        MemoSearchIndex.Result result = searchIndex.search(
+                userId, q, titleTarget, pageable.getOffset(), pageable.getPageSize());
+        if (result.memoIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, result.total());
+        }
+
+        Map<Long, UserMemo> byId = memoRepository.findByUserAndMemoIdIn(userId, result.memoIds()).stream()
+                .collect(Collectors.toMap(UserMemo::getMemoId, Function.identity()));
+        List<MemoDtos.MemoItem> items = result.memoIds().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(m -> MemoDtos.MemoItem.from(m)
+                        .withHighlights(MemoSearchIndex.highlight(m.getMemoText(), q)))
+                .toList();
+        return new PageImpl<>(items, pageable, result.total());
     }
 
     @Transactional
@@ -108,6 +179,7 @@ public class MemoService {
         if (req.memoText() != null) memo.setMemoText(req.memoText());
         if (req.spoilerFlag() != null) memo.setSpoilerFlag(req.spoilerFlag());
         if (req.visibility() != null) memo.setVisibility(req.visibility());
+        if (req.memoText() != null) searchIndex.onSaved(userId, memo);
         return MemoDtos.MemoItem.from(memo);
     }
 
@@ -115,6 +187,17 @@ public class MemoService {
     public void delete(Long userId, Long memoId) {
         UserMemo memo = findOwned(userId, memoId);
         memoRepository.delete(memo);
+        searchIndex.onDeleted(userId, memoId);
+    }
+
+    private static MemoDtos.MemoItem toItem(MemoRepository.StreamRow row) {
+        MemoDtos.Target target = row.getTitleId() != null
+                ? new MemoDtos.Target(TargetType.TITLE, row.getTitleId(), row.getTitleId())
+                : new MemoDtos.Target(TargetType.UNIT, row.getUnitId(), row.getUnitTitleId());
+        return new MemoDtos.MemoItem(
+                row.getMemoId(), target, row.getMemoText(),
+                row.getSpoilerFlag(), row.getVisibility(), row.getUpdatedAt(), null
+        );
     }
 
     private UserMemo findOwned(Long userId, Long memoId) {
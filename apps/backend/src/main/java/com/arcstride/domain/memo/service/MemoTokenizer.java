@@ -0,0 +1,89 @@
+package com.arcstride.domain.memo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메모 검색용 토크나이저.
+ *
+ * - 라틴 문자/숫자: 연속 구간을 소문자 단어 1개로
+ * - 한글/한자/가나(CJK): 띄어쓰기·조사에 무관하게 부분 일치하도록 2-gram (1글자 구간은 1-gram)
+ *   색인 쪽(tokenizeForIndex)은 글자마다 1-gram도 함께 넣어, 1글자 검색어("책")가 "책을"처럼 긴 구간 안에서도 일치
+ * - 그 외 문자(공백, 구두점, 이모지 등)는 구분자
+ */
+final class MemoTokenizer {
+
+    private MemoTokenizer() {}
+
+    /** 토큰 종류: 라틴 단어는 검색 시 접두사 매칭, CJK n-gram은 정확 매칭 */
+    record Token(String text, boolean word) {}
+
+    /** 검색어/하이라이트용 */
+    static List<Token> tokenize(String input) {
+        return tokenize(input, false);
+    }
+
+    /** 색인용: tokenize + CJK 구간의 글자별 1-gram */
+    static List<Token> tokenizeForIndex(String input) {
+        return tokenize(input, true);
+    }
+
+    private static List<Token> tokenize(String input, boolean unigrams) {
+        List<Token> tokens = new ArrayList<>();
+        if (input == null || input.isEmpty()) return tokens;
+
+        StringBuilder word = new StringBuilder();
+        StringBuilder cjk = new StringBuilder();
+
+        for (int i = 0; i < input.length(); ) {
+            int cp = input.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (isCjk(cp)) {
+                flushWord(word, tokens);
+                cjk.appendCodePoint(cp);
+            } else if (Character.isLetterOrDigit(cp)) {
+                flushCjk(cjk, tokens, unigrams);
+                word.appendCodePoint(Character.toLowerCase(cp));
+            } else {
+                flushWord(word, tokens);
+                flushCjk(cjk, tokens, unigrams);
+            }
+        }
+        flushWord(word, tokens);
+        flushCjk(cjk, tokens, unigrams);
+        return tokens;
+    }
+
+    static boolean isCjk(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    private static void flushWord(StringBuilder word, List<Token> out) {
+        if (word.isEmpty()) return;
+        out.add(new Token(word.toString(), true));
+        word.setLength(0);
+    }
+
+    private static void flushCjk(StringBuilder run, List<Token> out, boolean unigrams) {
+        if (run.isEmpty()) return;
+        int[] cps = run.codePoints().toArray();
+        if (cps.length == 1) {
+            out.add(new Token(new String(cps, 0, 1), false));
+        } else {
+            for (int i = 0; i + 1 < cps.length; i++) {
+                out.add(new Token(new String(cps, i, 2), false));
+            }
+            if (unigrams) {
+                for (int i = 0; i < cps.length; i++) {
+                    out.add(new Token(new String(cps, i, 1), false));
+                }
+            }
+        }
+        run.setLength(0);
+    }
+}
@@ -3,6 +3,8 @@ package com.arcstride.domain.progress.service;
 import com.arcstride.common.enums.Enums.ContentStatus;
 import com.arcstride.common.enums.Enums.ProgressStatus;
 import com.arcstride.common.exception.ApiException;
+import com.arcstride.config.outbox.OutboxEventType;
+import com.arcstride.config.outbox.OutboxPublisher;
 import com.arcstride.domain.progress.dto.ProgressDtos;
 import com.arcstride.domain.progress.entity.UserUnitProgress;
 import com.arcstride.domain.progress.repository.ProgressRepository;
@@ -23,6 +25,7 @@ public class ProgressService {
     private final ProgressRepository progressRepository;
     private final UnitRepository unitRepository;
     private final UserRepository userRepository;
+    private final OutboxPublisher outbox;
 
     /**
      * PUT /api/me/progress/units/{unitId}
@@ -46,6 +49,8 @@ public class ProgressService {
         progress.setFinishedAt(req.finishedAt());
 
         progress = progressRepository.save(progress);
+        outbox.append(OutboxEventType.PROGRESS_CHANGED, userId,
+                Map.of("unitId", unitId, "titleId", unit.getTitle().getTitleId(), "status", progress.getStatus().name()));
 
         return new ProgressDtos.UnitProgressResponse(
                 unitId,
@@ -67,6 +72,12 @@ public class ProgressService {
         List<ProgressRepository.StatusCount> counts =
                 progressRepository.countByUserAndTitleGroupByStatus(userId, titleId);
 
+        return summarize(titleId, totalUnits, counts);
+    }
+
+    /** 상태별 집계 → 요약/파생 상태 계산 (DB 접근 없음) */
+    static ProgressDtos.TitleSummaryResponse summarize(Long titleId, long totalUnits,
+                                                       List<ProgressRepository.StatusCount> counts) {
         Map<String, Long> summary = new LinkedHashMap<>();
         long done = 0, inProgress = 0, none = 0;
 
@@ -1,6 +1,8 @@
 package com.arcstride.domain.review.service;
 
 import com.arcstride.common.exception.ApiException;
+import com.arcstride.config.outbox.OutboxEventType;
+import com.arcstride.config.outbox.OutboxPublisher;
 import com.arcstride.domain.review.dto.ReviewDtos;
 import com.arcstride.domain.review.entity.UserReview;
 import com.arcstride.domain.review.repository.ReviewRepository;
@@ -8,6 +10,8 @@ import com.arcstride.domain.title.entity.Title;
 import com.arcstride.domain.title.entity.TitleStats;
 import com.arcstride.domain.title.repository.TitleRepository;
 import com.arcstride.domain.title.repository.TitleStatsRepository;
+import com.arcstride.domain.title.service.TitleStatsMetrics;
+import com.arcstride.domain.title.service.TitleVersionService;
 import com.arcstride.domain.user.entity.User;
 import com.arcstride.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +31,9 @@ public class ReviewService {
     private final TitleRepository titleRepository;
     private final TitleStatsRepository statsRepository;
     private final UserRepository userRepository;
+    private final TitleStatsMetrics statsMetrics;
+    private final TitleVersionService versionService;
+    private final OutboxPublisher outbox;
 
     @Transactional
     public ReviewDtos.MyReviewResponse upsert(Long userId, Long titleId, ReviewDtos.UpsertRequest req) {
@@ -53,7 +61,7 @@ public class ReviewService {
         review.setSpoilerFlag(req.spoilerFlag() != null ? req.spoilerFlag() : false);
 
         review = reviewRepository.save(review);
-        refreshTitleStats(titleId);
+        outbox.append(OutboxEventType.REVIEW_CHANGED, titleId, Map.of("userId", userId));
 
         return ReviewDtos.MyReviewResponse.from(review);
     }
@@ -63,7 +71,7 @@ public class ReviewService {
         UserReview review = reviewRepository.findByUser_UserIdAndTitle_TitleId(userId, titleId)
                 .orElseThrow(() -> ApiException.notFound("리뷰를 찾을 수 없습니다."));
         reviewRepository.delete(review);
-        refreshTitleStats(titleId);
+        outbox.append(OutboxEventType.REVIEW_CHANGED, titleId, Map.of("userId", userId));
     }
 
     @Transactional(readOnly = true)
@@ -76,21 +84,27 @@ public class ReviewService {
     }
 
 
-    private void refreshTitleStats(Long titleId) {
-        Object[] agg = reviewRepository.aggregateByTitle(titleId);
-        TitleStats stats = statsRepository.findById(titleId)
-                .orElseGet(() -> {
-                    Title t = titleRepository.getReferenceById(titleId);
-                    return TitleStats.builder().title(t).build();
-                });
-
-        stats.setAvgGraphicsX2(toBigDecimal(agg[0]));
-        stats.setAvgStoryX2(toBigDecimal(agg[1]));
-        stats.setAvgMusicX2(toBigDecimal(agg[2]));
-        stats.setAvgEtcX2(toBigDecimal(agg[3]));
-        stats.setReviewCount(((Number) agg[4]).intValue());
-
-        statsRepository.save(stats);
+    /** 리뷰 집계 재계산 (ReviewStatsConsumer가 아웃박스 이벤트로 호출) */
+    @Transactional
+    public void refreshTitleStats(Long titleId) {
+        statsMetrics.recordReviewRefresh(() -> {
+            // 통계 행을 먼저 잠근 뒤 집계: 집계 후 잠그면 그 사이 커밋된 다른 재계산을 오래된 값으로 덮어쓸 수 있음
+            TitleStats stats = statsRepository.findForUpdate(titleId)
+                    .orElseGet(() -> {
+                        Title t = titleRepository.getReferenceById(titleId);
+                        return TitleStats.builder().title(t).build();
+                    });
+            Object[] agg = reviewRepository.aggregateByTitle(titleId);
+
+            stats.setAvgGraphicsX2(toBigDecimal(agg[0]));
+            stats.setAvgStoryX2(toBigDecimal(agg[1]));
+            stats.setAvgMusicX2(toBigDecimal(agg[2]));
+            stats.setAvgEtcX2(toBigDecimal(agg[3]));
+            stats.setReviewCount(((Number) agg[4]).intValue());
+
+            statsRepository.save(stats);
+            versionService.bump(titleId);
+        });
     }
 
     private BigDecimal toBigDecimal(Object obj) {
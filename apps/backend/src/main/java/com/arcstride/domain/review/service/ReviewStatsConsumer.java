@@ -0,0 +1,37 @@
+package com.arcstride.domain.review.service;
+
+import com.arcstride.config.outbox.OutboxConsumer;
+import com.arcstride.config.outbox.OutboxEvent;
+import com.arcstride.config.outbox.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * REVIEW_CHANGED → title_stats 리뷰 평균/수 재계산.
+ * 배치 안에서 같은 작품은 1회만 재계산 (원본에서 다시 집계하므로 중복 전달에도 안전).
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewStatsConsumer implements OutboxConsumer {
+
+    private final ReviewService reviewService;
+
+    @Override
+    public String name() {
+        return "review-stats";
+    }
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return Set.of(OutboxEventType.REVIEW_CHANGED);
+    }
+
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        events.stream().map(OutboxEvent::aggregateId).distinct()
+                .forEach(reviewService::refreshTitleStats);
+    }
+}
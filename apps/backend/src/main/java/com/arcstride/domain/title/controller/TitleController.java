@@ -3,8 +3,11 @@ package com.arcstride.domain.title.controller;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import com.arcstride.common.dto.PageResponse;
+import com.arcstride.config.responsecache.EncodedResponseCache;
 import com.arcstride.domain.title.dto.TitleDtos;
+import com.arcstride.domain.title.dto.TitleField;
 import com.arcstride.domain.title.service.TitleService;
+import com.arcstride.domain.title.service.TitleVersionService;
 import com.arcstride.security.service.CurrentUserId;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +17,11 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
 
 @Tag(name = "Title", description = "작품 관리")
 @RestController
@@ -22,6 +30,8 @@ import org.springframework.web.bind.annotation.*;
 public class TitleController {
 
     private final TitleService titleService;
+    private final TitleVersionService versionService;
+    private final EncodedResponseCache responseCache;
 
     @PostMapping
     public ResponseEntity<TitleDtos.CreateResponse> create(
@@ -38,6 +48,35 @@ public class TitleController {
         return ResponseEntity.ok(PageResponse.of(titleService.list(type, pageable)));
     }
 
+    /**
+     * GET /api/titles?ids=1,2,3 (공개)
+     * 목록 화면의 작품 상세를 한 번에 조회 (최대 100개, 요청 순서 유지, 없는 id는 missingIds)
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<TitleDtos.BatchResponse<TitleDtos.DetailResponse>> details(@RequestParam String ids) {
+        return ResponseEntity.ok(titleService.details(ids));
+    }
+
+    /**
+     * 선택 필드 (?fields=titleId,originalTitle,stats, 공개).
+     * 요청한 필드의 컬럼만 조회하고 응답에도 그 필드만 씀 (titleId는 항상 포함)
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<PageResponse<Map<String, Object>>> listFields(
+            @RequestParam(required = false) String type,
+            @RequestParam String fields,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        Set<TitleField> selected = TitleField.parse(fields, false);
+        return ResponseEntity.ok(PageResponse.of(titleService.listFields(type, selected, pageable)));
+    }
+
+    @GetMapping(params = {"ids", "fields"})
+    public ResponseEntity<TitleDtos.BatchResponse<Map<String, Object>>> detailsFields(
+            @RequestParam String ids,
+            @RequestParam String fields) {
+        return ResponseEntity.ok(titleService.detailsFields(ids, TitleField.parse(fields, true)));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<PageResponse<TitleDtos.ListItem>> search(
             @RequestParam String q,
@@ -46,9 +85,54 @@ public class TitleController {
         return ResponseEntity.ok(PageResponse.of(titleService.search(q, type, pageable)));
     }
 
+    @GetMapping(value = "/search", params = "fields")
+    public ResponseEntity<PageResponse<Map<String, Object>>> searchFields(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam String fields,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        Set<TitleField> selected = TitleField.parse(fields, false);
+        return ResponseEntity.ok(PageResponse.of(titleService.searchFields(q, type, selected, pageable)));
+    }
+
+    /**
+     * GET /api/titles/{titleId} (공개)
+     * 작품 버전(title_versions)으로 ETag/Last-Modified를 만들고, 일치하면 상세 조회 없이 304.
+     * 200 본문은 버전별 직렬화 캐시(EncodedResponseCache)에서 바로 기록
+     */
     @GetMapping("/{titleId}")
-    public ResponseEntity<TitleDtos.DetailResponse> detail(@PathVariable Long titleId) {
-        return ResponseEntity.ok(titleService.detail(titleId));
+    public ResponseEntity<TitleDtos.DetailResponse> detail(@PathVariable Long titleId,
+                                                           ServletWebRequest webRequest) throws IOException {
+        TitleVersionService.Version version = versionService.current(titleId);
+        if (version == null) {
+            return ResponseEntity.ok(titleService.detail(titleId));   // 없는 작품 → 404
+        }
+        String etag = version.etag("title");
+        if (webRequest.checkNotModified(etag, version.lastModified())) {
+            return null;
+        }
+        responseCache.write(webRequest, "title:" + titleId, etag, () -> titleService.detail(titleId));
+        return null;
+    }
+
+    /** 상세의 선택 필드 버전. ETag/응답 캐시 키에 필드 조합을 더해 표현별로 구분 */
+    @GetMapping(value = "/{titleId}", params = "fields")
+    public ResponseEntity<Map<String, Object>> detailFields(@PathVariable Long titleId,
+                                                            @RequestParam String fields,
+                                                            ServletWebRequest webRequest) throws IOException {
+        Set<TitleField> selected = TitleField.parse(fields, true);
+        TitleVersionService.Version version = versionService.current(titleId);
+        if (version == null) {
+            return ResponseEntity.ok(titleService.detailFields(titleId, selected));   // 없는 작품 → 404
+        }
+        String variant = "f" + TitleField.key(selected);
+        String etag = version.etag("title", variant);
+        if (webRequest.checkNotModified(etag, version.lastModified())) {
+            return null;
+        }
+        responseCache.write(webRequest, "title:" + titleId + ":" + variant, etag,
+                () -> titleService.detailFields(titleId, selected));
+        return null;
     }
 
     @PostMapping("/{titleId}/aliases")
@@ -6,6 +6,7 @@ import com.arcstride.domain.title.entity.TitleStats;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -58,19 +59,37 @@ public final class TitleDtos {
             LocalDateTime createdAt
     ) {}
 
+    /** 여러 작품 상세 (요청 순서 유지, 없는 id는 missingIds). 항목은 DetailResponse 또는 선택 필드 Map */
+    public record BatchResponse<T>(
+            List<T> items,
+            List<Long> missingIds
+    ) {}
+
     public record StatsDto(
             Double avgGraphics,
             Double avgStory,
             Double avgMusic,
             Double avgEtc,
             Integer reviewCount,
-            Integer commentCount
+            Integer commentCount,
+            Integer guideCount
     ) {
         public static StatsDto from(TitleStats s) {
-            if (s == null) return new StatsDto(0.0, 0.0, 0.0, 0.0, 0, 0);
+            if (s == null) return new StatsDto(0.0, 0.0, 0.0, 0.0, 0, 0, 0);
             return new StatsDto(
                     s.avgGraphics(), s.avgStory(), s.avgMusic(), s.avgEtc(),
-                    s.getReviewCount(), s.getCommentCount()
+                    s.getReviewCount(), s.getCommentCount(), s.getGuideCount()
+            );
+        }
+
+        /** title_stats 원시 컬럼(평균 ×2)에서 생성. 행이 없으면(LEFT JOIN) from(null)과 같음 */
+        public static StatsDto ofX2(BigDecimal graphicsX2, BigDecimal storyX2, BigDecimal musicX2, BigDecimal etcX2,
+                                    Integer reviewCount, Integer commentCount, Integer guideCount) {
+            if (reviewCount == null) return from(null);
+            return new StatsDto(
+                    graphicsX2.doubleValue() / 2.0, storyX2.doubleValue() / 2.0,
+                    musicX2.doubleValue() / 2.0, etcX2.doubleValue() / 2.0,
+                    reviewCount, commentCount, guideCount
             );
         }
     }
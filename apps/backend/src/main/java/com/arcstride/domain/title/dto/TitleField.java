@@ -0,0 +1,81 @@
+package com.arcstride.domain.title.dto;
+
+import com.arcstride.common.exception.ApiException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 작품 응답의 선택 필드 (?fields=titleId,originalTitle,stats).
+ *
+ * - 요청한 필드의 컬럼만 조회하고 응답에도 그 필드만 씀 (titleId는 항상 포함)
+ * - stats는 title_stats 조인, aliases는 별칭 IN 조회를 요청했을 때만 수행
+ * - 출력 순서는 선언 순서 (DetailResponse와 동일)
+ */
+public enum TitleField {
+    TITLE_ID("titleId", "titleId", false),
+    TYPE("type", "type", false),
+    ORIGINAL_TITLE("originalTitle", "originalTitle", false),
+    KOREAN_TITLE("koreanTitle", "koreanTitle", false),
+    RELEASE_DATE("releaseDate", "releaseDate", false),
+    COVER_URL("coverUrl", "coverUrl", false),
+    SUMMARY("summary", "summary", true),
+    IS_EXPLICIT("isExplicit", "isExplicit", false),
+    ALIASES("aliases", null, true),
+    STATS("stats", null, false),
+    CREATED_AT("createdAt", "createdAt", true);
+
+    private final String field;
+    private final String attribute;
+    private final boolean detailOnly;
+
+    TitleField(String field, String attribute, boolean detailOnly) {
+        this.field = field;
+        this.attribute = attribute;
+        this.detailOnly = detailOnly;
+    }
+
+    /** 응답 JSON 속성 이름 */
+    public String field() {
+        return field;
+    }
+
+    /** Title 엔티티 속성 (null이면 별도 조인/조회) */
+    public String attribute() {
+        return attribute;
+    }
+
+    /**
+     * "originalTitle, stats" → {TITLE_ID, ORIGINAL_TITLE, STATS}.
+     * 목록(detail=false)은 ListItem에 있는 필드만 허용
+     */
+    public static Set<TitleField> parse(String fields, boolean detail) {
+        EnumSet<TitleField> result = EnumSet.of(TITLE_ID);
+        for (String part : fields.split(",")) {
+            String name = part.strip();
+            if (name.isEmpty()) continue;
+            TitleField f = byField(name);
+            if (f == null || (f.detailOnly && !detail)) {
+                throw ApiException.badRequest("fields 값이 올바르지 않습니다: " + name);
+            }
+            result.add(f);
+        }
+        return result;
+    }
+
+    /** ETag/응답 캐시 키용 식별자 (선언 순서 비트 마스크, 16진수) */
+    public static String key(Set<TitleField> fields) {
+        int mask = 0;
+        for (TitleField f : fields) {
+            mask |= 1 << f.ordinal();
+        }
+        return Integer.toHexString(mask);
+    }
+
+    private static TitleField byField(String name) {
+        for (TitleField f : values()) {
+            if (f.field.equals(name)) return f;
+        }
+        return null;
+    }
+}
@@ -2,9 +2,12 @@ package com.arcstride.domain.title.entity;
 
 import com.arcstride.common.enums.Enums.TitleType;
 import com.arcstride.common.enums.Enums.ContentStatus;
+import com.arcstride.config.entitycache.EntityCacheRegions;
 import com.arcstride.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,6 +17,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.TITLE)
 @Table(name = "titles")
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -67,6 +72,7 @@ public class Title {
     private LocalDateTime updatedAt;
 
     @OneToMany(mappedBy = "title", fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.TITLE_ALIASES)
     @Builder.Default
     private List<TitleAlias> aliases = new ArrayList<>();
 
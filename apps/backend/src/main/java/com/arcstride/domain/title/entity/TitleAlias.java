@@ -1,12 +1,17 @@
 package com.arcstride.domain.title.entity;
 
+import com.arcstride.config.entitycache.EntityCacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.TITLE_ALIAS)
 @Table(name = "title_aliases")
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
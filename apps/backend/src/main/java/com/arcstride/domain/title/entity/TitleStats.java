@@ -1,7 +1,10 @@
 package com.arcstride.domain.title.entity;
 
+import com.arcstride.config.entitycache.EntityCacheRegions;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -9,6 +12,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "title_stats")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.TITLE_STATS)
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -48,6 +53,10 @@ public class TitleStats {
     @Builder.Default
     private Integer commentCount = 0;
 
+    @Column(name = "guide_count", nullable = false)
+    @Builder.Default
+    private Integer guideCount = 0;
+
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
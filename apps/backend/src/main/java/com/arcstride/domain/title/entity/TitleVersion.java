@@ -0,0 +1,29 @@
+package com.arcstride.domain.title.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * 작품 단위 버전 카운터 (조건부 GET의 ETag/Last-Modified 근거).
+ * 쓰기는 TitleVersionRepository.bump(native)로만 수행.
+ */
+@Entity
+@Immutable
+@Table(name = "title_versions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TitleVersion {
+
+    @Id
+    @Column(name = "title_id")
+    private Long titleId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
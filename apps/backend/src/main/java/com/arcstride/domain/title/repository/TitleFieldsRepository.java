@@ -0,0 +1,24 @@
+package com.arcstride.domain.title.repository;
+
+import com.arcstride.common.enums.Enums.TitleType;
+import com.arcstride.domain.title.dto.TitleField;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 선택 필드(?fields=) 조회. 엔티티 대신 요청한 컬럼만 Tuple로 읽어 필드명 → 값 Map으로 돌려줌.
+ * 값이 null인 필드는 넣지 않음 (기본 응답의 non_null 직렬화와 동일).
+ */
+public interface TitleFieldsRepository {
+
+    /** id 목록 조회 (순서 무관, 없는 id는 결과에서 빠짐) */
+    List<Map<String, Object>> findFieldsByIds(Set<TitleField> fields, Collection<Long> ids);
+
+    /** ACTIVE 작품 페이지 (type, q는 선택. q는 원제/한국어 제목/별칭 부분 일치) */
+    Page<Map<String, Object>> findFieldsPage(Set<TitleField> fields, TitleType type, String q, Pageable pageable);
+}
@@ -0,0 +1,169 @@
+package com.arcstride.domain.title.repository;
+
+import com.arcstride.common.enums.Enums.ContentStatus;
+import com.arcstride.common.enums.Enums.TitleType;
+import com.arcstride.common.exception.ApiException;
+import com.arcstride.domain.title.dto.TitleDtos;
+import com.arcstride.domain.title.dto.TitleField;
+import com.arcstride.domain.title.entity.Title;
+import com.arcstride.domain.title.entity.TitleAlias;
+import com.arcstride.domain.title.entity.TitleStats;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * TitleFieldsRepository 구현 (Criteria Tuple 쿼리).
+ * 선택 필드마다 컬럼 하나씩 select, stats를 요청했을 때만 title_stats LEFT JOIN.
+ */
+@RequiredArgsConstructor
+class TitleFieldsRepositoryImpl implements TitleFieldsRepository {
+
+    private static final String[] STATS_COLUMNS = {
+            "avgGraphicsX2", "avgStoryX2", "avgMusicX2", "avgEtcX2", "reviewCount", "commentCount", "guideCount"
+    };
+
+    private final EntityManager em;
+
+    @Override
+    public List<Map<String, Object>> findFieldsByIds(Set<TitleField> fields, Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Title> root = cq.from(Title.class);
+        select(cb, cq, root, fields);
+        cq.where(root.get("titleId").in(ids));
+        return toRows(em.createQuery(cq).getResultList(), fields);
+    }
+
+    @Override
+    public Page<Map<String, Object>> findFieldsPage(Set<TitleField> fields, TitleType type, String q, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> cq = cb.createTupleQuery();
+        Root<Title> root = cq.from(Title.class);
+        select(cb, cq, root, fields);
+        cq.where(listPredicates(cb, cq, root, type, q));
+        cq.orderBy(orders(cb, root, pageable.getSort()));
+
+        List<Tuple> tuples = em.createQuery(cq)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(toRows(tuples, fields), pageable, () -> count(type, q));
+    }
+
+    private long count(TitleType type, String q) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Title> root = cq.from(Title.class);
+        cq.select(cb.count(root)).where(listPredicates(cb, cq, root, type, q));
+        return em.createQuery(cq).getSingleResult();
+    }
+
+    private static void select(CriteriaBuilder cb, CriteriaQuery<Tuple> cq, Root<Title> root, Set<TitleField> fields) {
+        List<Selection<?>> selections = new ArrayList<>();
+        for (TitleField f : fields) {
+            if (f.attribute() != null) {
+                selections.add(root.get(f.attribute()).alias(f.field()));
+            }
+        }
+        if (fields.contains(TitleField.STATS)) {
+            Join<Title, TitleStats> stats = root.join("stats", JoinType.LEFT);
+            for (String column : STATS_COLUMNS) {
+                selections.add(stats.get(column).alias("stats_" + column));
+            }
+        }
+        cq.select(cb.tuple(selections));
+    }
+
+    /** 기존 search 쿼리와 같은 조건 (별칭은 JOIN + DISTINCT 대신 EXISTS) */
+    private static Predicate[] listPredicates(CriteriaBuilder cb, CriteriaQuery<?> cq, Root<Title> root,
+                                              TitleType type, String q) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("status"), ContentStatus.ACTIVE));
+        if (type != null) {
+            predicates.add(cb.equal(root.get("type"), type));
+        }
+        if (q != null) {
+            String pattern = "%" + q.toLowerCase(Locale.ROOT) + "%";
+            Subquery<Long> alias = cq.subquery(Long.class);
+            Root<TitleAlias> a = alias.from(TitleAlias.class);
+            alias.select(a.get("aliasId"))
+                    .where(cb.equal(a.get("title"), root), cb.like(cb.lower(a.get("aliasText")), pattern));
+            predicates.add(cb.or(
+                    cb.like(cb.lower(root.get("originalTitle")), pattern),
+                    cb.like(cb.lower(root.get("koreanTitle")), pattern),
+                    cb.exists(alias)));
+        }
+        return predicates.toArray(Predicate[]::new);
+    }
+
+    private static List<Order> orders(CriteriaBuilder cb, Root<Title> root, Sort sort) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order o : sort) {
+            Path<Object> path;
+            try {
+                path = root.get(o.getProperty());
+            } catch (IllegalArgumentException e) {
+                throw ApiException.badRequest("sort 값이 올바르지 않습니다: " + o.getProperty());
+            }
+            orders.add(o.isAscending() ? cb.asc(path) : cb.desc(path));
+        }
+        return orders;
+    }
+
+    private List<Map<String, Object>> toRows(List<Tuple> tuples, Set<TitleField> fields) {
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        Map<Long, List<String>> aliases = new HashMap<>();
+        for (Tuple t : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (TitleField f : fields) {
+                Object value = switch (f) {
+                    case TYPE -> ((TitleType) t.get(f.field())).name();
+                    case ALIASES -> aliases.computeIfAbsent(t.get("titleId", Long.class), id -> new ArrayList<>());
+                    case STATS -> stats(t);
+                    default -> t.get(f.field());
+                };
+                if (value != null) row.put(f.field(), value);
+            }
+            rows.add(row);
+        }
+        if (!aliases.isEmpty()) {
+            fillAliases(aliases);
+        }
+        return rows;
+    }
+
+    /** 요청한 작품들의 별칭을 한 번의 IN 조회로 채움 (별칭 텍스트만 select) */
+    private void fillAliases(Map<Long, List<String>> aliases) {
+        List<Tuple> rows = em.createQuery("""
+                SELECT a.title.titleId AS titleId, a.aliasText AS aliasText
+                FROM TitleAlias a
+                WHERE a.title.titleId IN :ids
+                """, Tuple.class)
+                .setParameter("ids", aliases.keySet())
+                .getResultList();
+        for (Tuple row : rows) {
+            aliases.get(row.get("titleId", Long.class)).add(row.get("aliasText", String.class));
+        }
+    }
+
+    private static TitleDtos.StatsDto stats(Tuple t) {
+        return TitleDtos.StatsDto.ofX2(
+                t.get("stats_avgGraphicsX2", BigDecimal.class),
+                t.get("stats_avgStoryX2", BigDecimal.class),
+                t.get("stats_avgMusicX2", BigDecimal.class),
+                t.get("stats_avgEtcX2", BigDecimal.class),
+                t.get("stats_reviewCount", Integer.class),
+                t.get("stats_commentCount", Integer.class),
+                t.get("stats_guideCount", Integer.class));
+    }
+}
@@ -9,12 +9,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface TitleRepository extends JpaRepository<Title, Long> {
+import java.util.Collection;
+import java.util.List;
+
+public interface TitleRepository extends JpaRepository<Title, Long>, TitleFieldsRepository {
 
     Page<Title> findByStatus(ContentStatus status, Pageable pageable);
 
     Page<Title> findByTypeAndStatus(TitleType type, ContentStatus status, Pageable pageable);
 
+    /** 통계(title_stats)는 1:1이라 fetch join으로 같은 쿼리에서 읽음 */
+    @Query("SELECT t FROM Title t LEFT JOIN FETCH t.stats WHERE t.titleId IN :ids")
+    List<Title> findAllWithStatsByTitleIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("""
         SELECT DISTINCT t FROM Title t
         LEFT JOIN TitleAlias a ON a.title = t
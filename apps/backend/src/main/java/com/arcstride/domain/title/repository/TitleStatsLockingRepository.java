@@ -0,0 +1,16 @@
+package com.arcstride.domain.title.repository;
+
+import com.arcstride.domain.title.entity.TitleStats;
+
+import java.util.Optional;
+
+/**
+ * 통계 재계산용 잠금 조회.
+ * title_stats는 2차 캐시 대상이라 findById 결과가 다른 인스턴스의 갱신 이전 값일 수 있으므로,
+ * 읽고-고쳐-쓰는 재계산은 이 조회로 DB의 현재 행을 잠근 상태에서 시작해야 함.
+ */
+public interface TitleStatsLockingRepository {
+
+    /** SELECT ... FOR UPDATE로 현재 행을 읽음 (이미 영속성 컨텍스트에 있던 엔티티도 DB 값으로 갱신) */
+    Optional<TitleStats> findForUpdate(Long titleId);
+}
@@ -0,0 +1,27 @@
+package com.arcstride.domain.title.repository;
+
+import com.arcstride.domain.title.entity.TitleStats;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * TitleStatsLockingRepository 구현.
+ * find(캐시/영속성 컨텍스트에 있으면 DB 접근 없음) 후 refresh(PESSIMISTIC_WRITE)로 현재 행을 잠가 다시 읽음.
+ * 잠금 find만으로는 이미 관리 중인 엔티티(예: 같은 트랜잭션에서 Title을 읽으며 딸려 온 통계)의 상태가 갱신되지 않음.
+ */
+@RequiredArgsConstructor
+class TitleStatsLockingRepositoryImpl implements TitleStatsLockingRepository {
+
+    private final EntityManager em;
+
+    @Override
+    public Optional<TitleStats> findForUpdate(Long titleId) {
+        TitleStats stats = em.find(TitleStats.class, titleId);
+        if (stats == null) return Optional.empty();
+        em.refresh(stats, LockModeType.PESSIMISTIC_WRITE);
+        return Optional.of(stats);
+    }
+}
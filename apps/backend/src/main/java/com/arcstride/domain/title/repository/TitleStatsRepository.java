@@ -2,6 +2,32 @@ package com.arcstride.domain.title.repository;
 
 import com.arcstride.domain.title.entity.TitleStats;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TitleStatsRepository extends JpaRepository<TitleStats, Long> {
+import java.math.BigDecimal;
+import java.util.Optional;
+
+public interface TitleStatsRepository extends JpaRepository<TitleStats, Long>, TitleStatsLockingRepository {
+
+    /** 통계 컬럼 값 (엔티티가 아닌 스칼라 → 2차 캐시/영속성 컨텍스트의 이전 값이 섞이지 않음) */
+    interface StatsRow {
+        BigDecimal getAvgGraphicsX2();
+        BigDecimal getAvgStoryX2();
+        BigDecimal getAvgMusicX2();
+        BigDecimal getAvgEtcX2();
+        Integer getReviewCount();
+        Integer getCommentCount();
+        Integer getGuideCount();
+    }
+
+    /** 버전(ETag) 응답 본문용 현재 값 */
+    @Query("""
+        SELECT s.avgGraphicsX2 AS avgGraphicsX2, s.avgStoryX2 AS avgStoryX2, s.avgMusicX2 AS avgMusicX2,
+               s.avgEtcX2 AS avgEtcX2, s.reviewCount AS reviewCount, s.commentCount AS commentCount,
+               s.guideCount AS guideCount
+        FROM TitleStats s
+        WHERE s.titleId = :titleId
+        """)
+    Optional<StatsRow> findRowByTitleId(@Param("titleId") Long titleId);
 }
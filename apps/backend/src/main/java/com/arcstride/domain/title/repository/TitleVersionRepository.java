@@ -0,0 +1,28 @@
+package com.arcstride.domain.title.repository;
+
+import com.arcstride.domain.title.entity.TitleVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface TitleVersionRepository extends JpaRepository<TitleVersion, Long> {
+
+    /**
+     * 행이 없으면 1로 생성, 있으면 +1 (같은 작품의 동시 쓰기는 행 잠금으로 직렬화).
+     * 네이티브 쓰기는 영향 테이블을 지정해야 2차 캐시 전체가 무효화되지 않음.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "title_versions"))
+    @Query(value = """
+        INSERT INTO title_versions (title_id, version, updated_at)
+        VALUES (:titleId, 1, CURRENT_TIMESTAMP(3))
+        ON DUPLICATE KEY UPDATE
+          version = version + 1,
+          updated_at = CURRENT_TIMESTAMP(3)
+    """, nativeQuery = true)
+    int bump(@Param("titleId") Long titleId);
+}
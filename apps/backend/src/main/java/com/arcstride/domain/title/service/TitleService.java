@@ -3,7 +3,10 @@ package com.arcstride.domain.title.service;
 import com.arcstride.common.enums.Enums.ContentStatus;
 import com.arcstride.common.enums.Enums.TitleType;
 import com.arcstride.common.exception.ApiException;
+import com.arcstride.config.outbox.OutboxEventType;
+import com.arcstride.config.outbox.OutboxPublisher;
 import com.arcstride.domain.title.dto.TitleDtos;
+import com.arcstride.domain.title.dto.TitleField;
 import com.arcstride.domain.title.entity.Title;
 import com.arcstride.domain.title.entity.TitleAlias;
 import com.arcstride.domain.title.entity.TitleStats;
@@ -18,16 +21,26 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class TitleService {
 
+    /** GET /api/titles?ids= 한 번에 요청할 수 있는 작품 수 */
+    public static final int MAX_BATCH_IDS = 100;
+
     private final TitleRepository titleRepository;
     private final TitleAliasRepository aliasRepository;
     private final TitleStatsRepository statsRepository;
     private final UserRepository userRepository;
+    private final TitleVersionService versionService;
+    private final OutboxPublisher outbox;
 
     @Transactional
     public TitleDtos.CreateResponse create(TitleDtos.CreateRequest req, Long userId) {
@@ -48,6 +61,8 @@ public class TitleService {
 
         TitleStats stats = TitleStats.builder().title(title).build();
         statsRepository.save(stats);
+        versionService.bump(title.getTitleId());
+        outbox.append(OutboxEventType.TITLE_CREATED, title.getTitleId());
 
         return new TitleDtos.CreateResponse(title.getTitleId());
     }
@@ -84,19 +99,117 @@ public class TitleService {
         Title t = titleRepository.findById(titleId)
                 .orElseThrow(() -> ApiException.notFound("작품을 찾을 수 없습니다."));
 
+        // 2차 캐시의 Title.aliases/stats는 인스턴스 로컬이라 버전(ETag) 응답 본문에는 쿼리 결과를 씀
         List<String> aliases = aliasRepository.findByTitle_TitleId(titleId).stream()
                 .map(TitleAlias::getAliasText)
                 .toList();
+        TitleDtos.StatsDto stats = statsRepository.findRowByTitleId(titleId)
+                .map(r -> TitleDtos.StatsDto.ofX2(r.getAvgGraphicsX2(), r.getAvgStoryX2(), r.getAvgMusicX2(),
+                        r.getAvgEtcX2(), r.getReviewCount(), r.getCommentCount(), r.getGuideCount()))
+                .orElseGet(() -> TitleDtos.StatsDto.from(null));
+        return toDetail(t, aliases, stats);
+    }
+
+    /**
+     * 여러 작품 상세를 한 번에 조회 (작품+통계 1회, 별칭 1회 IN 쿼리).
+     * 중복 id는 처음 위치만 남기고, 없는 id는 missingIds로 돌려줌
+     */
+    @Transactional(readOnly = true)
+    public TitleDtos.BatchResponse<TitleDtos.DetailResponse> details(String ids) {
+        List<Long> requested = parseIds(ids);
+
+        Map<Long, Title> titles = new HashMap<>();
+        for (Title t : titleRepository.findAllWithStatsByTitleIdIn(requested)) {
+            titles.put(t.getTitleId(), t);
+        }
+        Map<Long, List<String>> aliases = new HashMap<>();
+        if (!titles.isEmpty()) {
+            for (TitleAlias a : aliasRepository.findByTitle_TitleIdIn(titles.keySet())) {
+                aliases.computeIfAbsent(a.getTitle().getTitleId(), id -> new ArrayList<>()).add(a.getAliasText());
+            }
+        }
+
+        Map<Long, TitleDtos.DetailResponse> found = new HashMap<>();
+        titles.forEach((id, t) -> found.put(id,
+                toDetail(t, aliases.getOrDefault(id, List.of()), TitleDtos.StatsDto.from(t.getStats()))));
+        return inRequestOrder(requested, found);
+    }
+
+    /** ?fields= 목록: 선택한 컬럼만 조회하고 엔티티/DTO 대신 필드 Map으로 돌려줌 */
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> listFields(String type, Set<TitleField> fields, Pageable pageable) {
+        return titleRepository.findFieldsPage(fields, parseTitleType(type), null, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> searchFields(String q, String type, Set<TitleField> fields, Pageable pageable) {
+        return titleRepository.findFieldsPage(fields, parseTitleType(type), q, pageable);
+    }
 
+    @Transactional(readOnly = true)
+    public Map<String, Object> detailFields(Long titleId, Set<TitleField> fields) {
+        List<Map<String, Object>> rows = titleRepository.findFieldsByIds(fields, List.of(titleId));
+        if (rows.isEmpty()) {
+            throw ApiException.notFound("작품을 찾을 수 없습니다.");
+        }
+        return rows.get(0);
+    }
+
+    @Transactional(readOnly = true)
+    public TitleDtos.BatchResponse<Map<String, Object>> detailsFields(String ids, Set<TitleField> fields) {
+        List<Long> requested = parseIds(ids);
+        Map<Long, Map<String, Object>> found = new HashMap<>();
+        for (Map<String, Object> row : titleRepository.findFieldsByIds(fields, requested)) {
+            found.put((Long) row.get(TitleField.TITLE_ID.field()), row);
+        }
+        return inRequestOrder(requested, found);
+    }
+
+    private static <T> TitleDtos.BatchResponse<T> inRequestOrder(List<Long> requested, Map<Long, T> found) {
+        List<T> items = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            T item = found.get(id);
+            if (item == null) {
+                missing.add(id);
+            } else {
+                items.add(item);
+            }
+        }
+        return new TitleDtos.BatchResponse<>(items, missing);
+    }
+
+    private static TitleDtos.DetailResponse toDetail(Title t, List<String> aliases, TitleDtos.StatsDto stats) {
         return new TitleDtos.DetailResponse(
                 t.getTitleId(), t.getType().name(), t.getOriginalTitle(), t.getKoreanTitle(),
                 t.getReleaseDate(), t.getCoverUrl(), t.getSummary(), t.getIsExplicit(),
                 aliases,
-                TitleDtos.StatsDto.from(t.getStats()),
+                stats,
                 t.getCreatedAt()
         );
     }
 
+    /** "1,2,3" → 순서 유지 + 중복 제거 (최대 MAX_BATCH_IDS개) */
+    private static List<Long> parseIds(String ids) {
+        Set<Long> result = new LinkedHashSet<>();
+        for (String part : ids.split(",")) {
+            String value = part.strip();
+            if (value.isEmpty()) continue;
+            try {
+                result.add(Long.valueOf(value));
+            } catch (NumberFormatException e) {
+                throw ApiException.badRequest("ids 값이 올바르지 않습니다: " + value);
+            }
+            if (result.size() > MAX_BATCH_IDS) {
+                throw ApiException.badRequest("ids는 최대 " + MAX_BATCH_IDS + "개까지 요청할 수 있습니다.");
+            }
+        }
+        if (result.isEmpty()) {
+            throw ApiException.badRequest("ids가 비어 있습니다.");
+        }
+        return List.copyOf(result);
+    }
+
     @Transactional
     public TitleDtos.AddAliasResponse addAlias(Long titleId, TitleDtos.AddAliasRequest req) {
         Title title = titleRepository.findById(titleId)
@@ -111,6 +224,8 @@ public class TitleService {
                 .aliasText(req.aliasText())
                 .build();
         alias = aliasRepository.save(alias);
+        versionService.bump(titleId);
+        outbox.append(OutboxEventType.ALIAS_ADDED, titleId, Map.of("aliasId", alias.getAliasId()));
         return new TitleDtos.AddAliasResponse(alias.getAliasId());
     }
 
@@ -122,5 +237,7 @@ public class TitleService {
             throw ApiException.badRequest("타이틀 ID가 일치하지 않습니다.");
         }
         aliasRepository.delete(alias);
+        versionService.bump(titleId);
+        outbox.append(OutboxEventType.ALIAS_DELETED, titleId, Map.of("aliasId", aliasId));
     }
 }
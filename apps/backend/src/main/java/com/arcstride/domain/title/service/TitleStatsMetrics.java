@@ -0,0 +1,37 @@
+package com.arcstride.domain.title.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * title_stats 재계산 지표 (arcstride.stats.refresh, kind=review|comment).
+ * 호출 수/소요 시간으로 리뷰·댓글 쓰기가 집계 쿼리에 주는 부하를 확인.
+ */
+@Component
+public class TitleStatsMetrics {
+
+    private final Timer reviewRefresh;
+    private final Timer commentRefresh;
+
+    public TitleStatsMetrics(MeterRegistry registry) {
+        this.reviewRefresh = timer(registry, "review");
+        this.commentRefresh = timer(registry, "comment");
+    }
+
+    public void recordReviewRefresh(Runnable refresh) {
+        reviewRefresh.record(refresh);
+    }
+
+    public void recordCommentRefresh(Runnable refresh) {
+        commentRefresh.record(refresh);
+    }
+
+    private static Timer timer(MeterRegistry registry, String kind) {
+        return Timer.builder("arcstride.stats.refresh")
+                .description("title_stats 재계산")
+                .tag("kind", kind)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,47 @@
+package com.arcstride.domain.title.service;
+
+import com.arcstride.domain.title.entity.TitleVersion;
+import com.arcstride.domain.title.repository.TitleVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 공개 카탈로그(작품 상세/유닛/캐릭터) 조건부 GET 지원.
+ *
+ * - 작품의 별칭/유닛/캐릭터/통계를 바꾸는 쓰기는 같은 트랜잭션에서 bump 호출
+ * - GET은 current()로 PK 1건만 읽고, If-None-Match/If-Modified-Since가 맞으면 본 조회 없이 304
+ */
+@Service
+@RequiredArgsConstructor
+public class TitleVersionService {
+
+    private final TitleVersionRepository versionRepository;
+
+    /** 호출자 트랜잭션에 참여 (쓰기가 롤백되면 버전도 롤백) */
+    @Transactional
+    public void bump(Long titleId) {
+        versionRepository.bump(titleId);
+    }
+
+    /** 버전 행이 없으면(없는 작품) null → 호출자는 본 조회로 진행해 404 처리 */
+    @Transactional(readOnly = true)
+    public Version current(Long titleId) {
+        return versionRepository.findById(titleId)
+                .map(v -> new Version(v.getTitleId(), v.getVersion(), v.getUpdatedAt().toEpochMilli()))
+                .orElse(null);
+    }
+
+    public record Version(Long titleId, long version, long lastModified) {
+
+        /** 같은 작품이라도 리소스마다 다른 ETag (예: "title-12-v5", "units-12-v5") */
+        public String etag(String resource) {
+            return "\"" + resource + "-" + titleId + "-v" + version + "\"";
+        }
+
+        /** 같은 리소스의 다른 표현 (예: 선택 필드 "title-12-v5-f41") */
+        public String etag(String resource, String variant) {
+            return "\"" + resource + "-" + titleId + "-v" + version + "-" + variant + "\"";
+        }
+    }
+}
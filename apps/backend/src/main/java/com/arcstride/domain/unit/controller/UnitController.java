@@ -3,6 +3,9 @@ package com.arcstride.domain.unit.controller;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import com.arcstride.common.dto.ItemsResponse;
+import com.arcstride.common.enums.Enums.UnitType;
+import com.arcstride.config.responsecache.EncodedResponseCache;
+import com.arcstride.domain.title.service.TitleVersionService;
 import com.arcstride.domain.unit.dto.UnitDtos;
 import com.arcstride.domain.unit.service.UnitService;
 import com.arcstride.security.service.CurrentUserId;
@@ -11,6 +14,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
 
 @Tag(name = "Unit", description = "에피소드/볼륨/루트 관리")
 @RestController
@@ -18,6 +24,8 @@ import org.springframework.web.bind.annotation.*;
 public class UnitController {
 
     private final UnitService unitService;
+    private final TitleVersionService versionService;
+    private final EncodedResponseCache responseCache;
 
     @PostMapping("/api/titles/{titleId}/units")
     public ResponseEntity<UnitDtos.CreateResponse> create(
@@ -28,11 +36,34 @@ public class UnitController {
                 .body(unitService.create(titleId, req, userId));
     }
 
+    /**
+     * GET /api/titles/{titleId}/units (공개, 작품 버전 기준 조건부 GET + 직렬화 캐시).
+     * 캐시 키는 unitType별 (알 수 없는 unitType 값은 캐시하지 않음)
+     */
     @GetMapping("/api/titles/{titleId}/units")
     public ResponseEntity<ItemsResponse<UnitDtos.ListItem>> list(
             @PathVariable Long titleId,
-            @RequestParam(required = false) String unitType) {
-        return ResponseEntity.ok(ItemsResponse.of(unitService.listByTitle(titleId, unitType)));
+            @RequestParam(required = false) String unitType,
+            ServletWebRequest webRequest) throws IOException {
+        TitleVersionService.Version version = versionService.current(titleId);
+        if (version == null || !isCacheableUnitType(unitType)) {
+            return ResponseEntity.ok(ItemsResponse.of(unitService.listByTitle(titleId, unitType)));
+        }
+        String etag = version.etag("units");
+        if (webRequest.checkNotModified(etag, version.lastModified())) {
+            return null;
+        }
+        responseCache.write(webRequest, "units:" + titleId + ":" + unitType, etag,
+                () -> ItemsResponse.of(unitService.listByTitle(titleId, unitType)));
+        return null;
+    }
+
+    private static boolean isCacheableUnitType(String unitType) {
+        if (unitType == null) return true;
+        for (UnitType t : UnitType.values()) {
+            if (t.name().equals(unitType)) return true;
+        }
+        return false;
     }
 
     @PatchMapping("/api/units/{unitId}")
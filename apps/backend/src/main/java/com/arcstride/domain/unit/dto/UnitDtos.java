@@ -30,6 +30,7 @@ public final class UnitDtos {
             Integer sortOrder,
             LocalDate releaseDate,
             Long characterId,
+            Integer guideCount,
             LocalDateTime createdAt
     ) {
         public static ListItem from(Unit u) {
@@ -37,6 +38,7 @@ public final class UnitDtos {
                     u.getUnitId(), u.getUnitType().name(), u.getUnitKey(), u.getDisplayName(),
                     u.getSortOrder(), u.getReleaseDate(),
                     u.getCharacter() != null ? u.getCharacter().getCharacterId() : null,
+                    u.getGuideCount(),
                     u.getCreatedAt()
             );
         }
@@ -2,11 +2,14 @@ package com.arcstride.domain.unit.entity;
 
 import com.arcstride.common.enums.Enums.ContentStatus;
 import com.arcstride.common.enums.Enums.UnitType;
+import com.arcstride.config.entitycache.EntityCacheRegions;
 import com.arcstride.domain.character.entity.GameCharacter;
 import com.arcstride.domain.title.entity.Title;
 import com.arcstride.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,6 +17,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheRegions.UNIT)
 @Table(name = "units")
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -62,6 +67,11 @@ public class Unit {
     @JoinColumn(name = "created_by")
     private User createdBy;
 
+    /** 공개 공략 수 (GuideService가 UnitRepository.findForUpdate로 잠근 행에서 재집계) */
+    @Column(name = "guide_count", nullable = false)
+    @Builder.Default
+    private Integer guideCount = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
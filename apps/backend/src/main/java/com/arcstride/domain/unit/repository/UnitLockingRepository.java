@@ -0,0 +1,16 @@
+package com.arcstride.domain.unit.repository;
+
+import com.arcstride.domain.unit.entity.Unit;
+
+import java.util.Optional;
+
+/**
+ * 집계 컬럼(guide_count) 재계산용 잠금 조회.
+ * units는 2차 캐시 대상이라, 벌크 UPDATE 대신 잠근 현재 행을 엔티티로 고쳐 써서 해당 id의 캐시 항목만 갱신되게 함
+ * (벌크 JPQL/네이티브 UPDATE는 unit 리전 전체를 비움).
+ */
+public interface UnitLockingRepository {
+
+    /** SELECT ... FOR UPDATE로 현재 행을 읽음 (이미 영속성 컨텍스트에 있던 엔티티도 DB 값으로 갱신) */
+    Optional<Unit> findForUpdate(Long unitId);
+}
@@ -0,0 +1,26 @@
+package com.arcstride.domain.unit.repository;
+
+import com.arcstride.domain.unit.entity.Unit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * UnitLockingRepository 구현.
+ * find(캐시/영속성 컨텍스트에 있으면 DB 접근 없음) 후 refresh(PESSIMISTIC_WRITE)로 현재 행을 잠가 다시 읽음.
+ */
+@RequiredArgsConstructor
+class UnitLockingRepositoryImpl implements UnitLockingRepository {
+
+    private final EntityManager em;
+
+    @Override
+    public Optional<Unit> findForUpdate(Long unitId) {
+        Unit unit = em.find(Unit.class, unitId);
+        if (unit == null) return Optional.empty();
+        em.refresh(unit, LockModeType.PESSIMISTIC_WRITE);
+        return Optional.of(unit);
+    }
+}
@@ -2,11 +2,14 @@ package com.arcstride.domain.unit.service;
 
 import com.arcstride.common.enums.Enums.ContentStatus;
 import com.arcstride.common.exception.ApiException;
+import com.arcstride.config.outbox.OutboxEventType;
+import com.arcstride.config.outbox.OutboxPublisher;
 import com.arcstride.common.util.NormalizeUtil;
 import com.arcstride.domain.character.entity.GameCharacter;
 import com.arcstride.domain.character.repository.CharacterRepository;
 import com.arcstride.domain.title.entity.Title;
 import com.arcstride.domain.title.repository.TitleRepository;
+import com.arcstride.domain.title.service.TitleVersionService;
 import com.arcstride.domain.unit.dto.UnitDtos;
 import com.arcstride.domain.unit.entity.Unit;
 import com.arcstride.domain.unit.repository.UnitRepository;
@@ -17,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +30,8 @@ public class UnitService {
     private final TitleRepository titleRepository;
     private final CharacterRepository characterRepository;
     private final UserRepository userRepository;
+    private final TitleVersionService versionService;
+    private final OutboxPublisher outbox;
 
     @Transactional
     public UnitDtos.CreateResponse create(Long titleId, UnitDtos.CreateRequest req, Long userId) {
@@ -58,6 +64,8 @@ public class UnitService {
                 .createdBy(user)
                 .build();
         unit = unitRepository.save(unit);
+        versionService.bump(titleId);
+        outbox.append(OutboxEventType.UNIT_CREATED, titleId, Map.of("unitId", unit.getUnitId()));
 
         return new UnitDtos.CreateResponse(unit.getUnitId());
     }
@@ -77,6 +85,8 @@ public class UnitService {
         Unit unit = unitRepository.findById(unitId)
                 .orElseThrow(() -> ApiException.notFound("유닛을 찾을 수 없습니다."));
         unit.setSortOrder(req.sortOrder());
+        versionService.bump(unit.getTitle().getTitleId());
+        outbox.append(OutboxEventType.UNIT_REORDERED, unit.getTitle().getTitleId(), Map.of("unitId", unitId));
         return new UnitDtos.PatchResponse(unit.getUnitId(), unit.getSortOrder());
     }
 }
@@ -8,6 +8,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(UserStatusListener.class)
 @Table(name = "users")
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -15,6 +16,8 @@ import java.time.LocalDateTime;
 @Builder
 public class User {
 
+    public static final String STATUS_ACTIVE = "ACTIVE";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_id")
@@ -41,7 +44,7 @@ public class User {
 
     @Column(nullable = false, length = 20)
     @Builder.Default
-    private String status = "ACTIVE";
+    private String status = STATUS_ACTIVE;
 
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
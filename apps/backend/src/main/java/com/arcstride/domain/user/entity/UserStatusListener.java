@@ -0,0 +1,51 @@
+package com.arcstride.domain.user.entity;
+
+import com.arcstride.security.service.UserAccessCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * User 변경 시 인증 캐시(UserAccessCache) 갱신.
+ * 롤백된 변경이 캐시에 남지 않도록 커밋 이후에 반영.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStatusListener {
+
+    private final UserAccessCache accessCache;
+
+    @PostUpdate
+    void onUpdate(User user) {
+        Long userId = user.getUserId();
+        String googleSub = user.getGoogleSub();
+        if (User.STATUS_ACTIVE.equals(user.getStatus())) {
+            afterCommit(() -> accessCache.markActive(userId));
+        } else {
+            afterCommit(() -> accessCache.markDisabled(googleSub, userId));
+        }
+    }
+
+    @PostRemove
+    void onRemove(User user) {
+        Long userId = user.getUserId();
+        String googleSub = user.getGoogleSub();
+        afterCommit(() -> accessCache.markDisabled(googleSub, userId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
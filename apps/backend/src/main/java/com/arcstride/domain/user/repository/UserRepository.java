@@ -2,6 +2,8 @@ package com.arcstride.domain.user.repository;
 
 import com.arcstride.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -11,4 +13,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByGoogleSub(String googleSub);
     boolean existsByEmail(String email);
     boolean existsByUsername(String username);
+
+    /** 인증 캐시 재확인용 상태 조회 (엔티티/2차 캐시를 거치지 않음) */
+    @Query("SELECT u.status FROM User u WHERE u.userId = :userId")
+    Optional<String> findStatusById(@Param("userId") Long userId);
 }
@@ -2,11 +2,13 @@ package com.arcstride.security.handler;
 
 import com.arcstride.domain.user.entity.User;
 import com.arcstride.domain.user.repository.UserRepository;
+import com.arcstride.security.service.UserIdResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.web.savedrequest.HttpSessionRequestCache;
@@ -24,6 +26,7 @@ import java.util.regex.Pattern;
 public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
 
     private final UserRepository userRepository;
+    private final UserIdResolver userIdResolver;
 
     private static final String DEFAULT_REDIRECT = "/titles";
     private static final Set<String> ALLOWED_PREFIXES = Set.of("/titles", "/my", "/guides");
@@ -59,6 +62,17 @@ public class OAuth2LoginSuccessHandler implements AuthenticationSuccessHandler {
                     return userRepository.save(newUser);
                 });
 
+        if (!User.STATUS_ACTIVE.equals(user.getStatus())) {
+            log.warn("OAuth2 login rejected (status={}): userId={}", user.getStatus(), user.getUserId());
+            SecurityContextHolder.clearContext();
+            request.getSession().invalidate();
+            response.sendRedirect("/login?error=account_disabled");
+            return;
+        }
+
+        // 이후 요청은 세션의 userId를 사용 (CurrentUserArgumentResolver가 DB 조회 생략)
+        userIdResolver.onLogin(request, user);
+
         log.info("OAuth2 login success: userId={}, email={}", user.getUserId(), user.getEmail());
 
         String redirectTo = resolveRedirect(request, response);
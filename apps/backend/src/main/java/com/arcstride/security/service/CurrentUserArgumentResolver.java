@@ -1,13 +1,10 @@
 package com.arcstride.security.service;
 
-import com.arcstride.common.exception.ApiException;
-import com.arcstride.domain.user.entity.User;
-import com.arcstride.domain.user.repository.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -16,7 +13,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 
 /**
  * 컨트롤러 파라미터에 현재 인증된 사용자의 userId를 주입하는 ArgumentResolver.
- * OAuth2 세션(OidcUser) → google_sub로 DB 조회 → userId 반환.
+ * 로그인 시 세션에 저장된 userId를 사용 (UserIdResolver), 요청마다 DB를 조회하지 않음.
  *
  * 사용: void method(@CurrentUserId Long userId, ...)
  */
@@ -24,7 +21,7 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @RequiredArgsConstructor
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
 
-    private final UserRepository userRepository;
+    private final UserIdResolver userIdResolver;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -39,19 +36,6 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
                                   WebDataBinderFactory binderFactory) {
 
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth == null || !auth.isAuthenticated()) {
-            throw ApiException.badRequest("인증 정보가 없습니다.");
-        }
-
-        Object principal = auth.getPrincipal();
-
-        if (principal instanceof OidcUser oidcUser) {
-            String googleSub = oidcUser.getSubject();
-            User user = userRepository.findByGoogleSub(googleSub)
-                    .orElseThrow(() -> ApiException.notFound("사용자를 찾을 수 없습니다."));
-            return user.getUserId();
-        }
-
-        throw ApiException.badRequest("지원하지 않는 인증 방식입니다.");
+        return userIdResolver.resolve(webRequest.getNativeRequest(HttpServletRequest.class), auth);
     }
 }
@@ -0,0 +1,61 @@
+package com.arcstride.security.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Predicate;
+
+/**
+ * 인증 주체 → userId 해석용 인스턴스 메모리 캐시.
+ *
+ * - googleSub → userId: 최대 maxEntries (초과 시 Caffeine이 오래 쓰이지 않은 항목부터 제거)
+ * - userId → 활성 여부: 최대 maxEntries, statusTtl 후 만료되어 다음 요청에서 DB로 재확인
+ *   → 이 인스턴스의 변경은 커밋 직후, 다른 인스턴스의 비활성화는 statusTtl 안에 차단
+ *
+ * 갱신은 UserStatusListener(JPA 엔티티 리스너)가 담당하므로 이 클래스는 다른 빈에 의존하지 않음.
+ */
+@Component
+public class UserAccessCache {
+
+    private final Cache<String, Long> userIdsBySub;
+    private final Cache<Long, Boolean> activeByUserId;
+
+    public UserAccessCache(UserAccessProperties properties) {
+        this.userIdsBySub = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .build();
+        this.activeByUserId = Caffeine.newBuilder()
+                .maximumSize(properties.maxEntries())
+                .expireAfterWrite(properties.statusTtl())
+                .build();
+    }
+
+    public Long findUserId(String googleSub) {
+        return userIdsBySub.getIfPresent(googleSub);
+    }
+
+    /** ACTIVE로 확인된 사용자 등록 (로그인, DB 조회 직후) */
+    public void put(String googleSub, Long userId) {
+        userIdsBySub.put(googleSub, userId);
+        activeByUserId.put(userId, true);
+    }
+
+    /** 캐시에 없거나 만료되었으면 loader(DB 상태 조회)로 확인 후 statusTtl 동안 재사용 */
+    public boolean isActive(Long userId, Predicate<Long> loader) {
+        return activeByUserId.get(userId, loader::test);
+    }
+
+    public void markDisabled(String googleSub, Long userId) {
+        activeByUserId.put(userId, false);
+        if (googleSub != null) userIdsBySub.invalidate(googleSub);
+    }
+
+    public void markActive(Long userId) {
+        activeByUserId.put(userId, true);
+    }
+
+    public void evict(String googleSub) {
+        if (googleSub != null) userIdsBySub.invalidate(googleSub);
+    }
+}
@@ -0,0 +1,19 @@
+package com.arcstride.security.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 인증 캐시(UserAccessCache) 설정.
+ *
+ * @param maxEntries googleSub → userId, userId → 활성 여부 캐시 각각의 최대 항목 수
+ * @param statusTtl  활성 여부 캐시 유지 시간. 만료 후 첫 요청에서 DB 상태를 다시 확인
+ *                   (다른 인스턴스에서 비활성화된 사용자가 이 인스턴스에서 차단되기까지의 지연 상한)
+ */
+@ConfigurationProperties("arcstride.user-access")
+public record UserAccessProperties(
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("30s") Duration statusTtl
+) {}
@@ -0,0 +1,73 @@
+package com.arcstride.security.service;
+
+import com.arcstride.common.exception.ApiException;
+import com.arcstride.domain.user.entity.User;
+import com.arcstride.domain.user.repository.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 인증 주체의 userId 해석.
+ *
+ * 우선순위: 세션 속성(로그인 시 저장) > googleSub 캐시 > DB 조회(ACTIVE만, 결과를 세션/캐시에 저장)
+ * 비활성화된 사용자는 어느 경로로 해석되든 403. 활성 여부는 UserAccessCache에서 statusTtl 동안 재사용하고,
+ * 만료/미스 시 DB 상태를 다시 확인 (다른 인스턴스에서 비활성화된 사용자도 statusTtl 안에 차단).
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIdResolver {
+
+    /** 로그인 성공 시 세션에 저장하는 userId 속성명 */
+    public static final String SESSION_USER_ID = "arcstride.userId";
+
+    private final UserRepository userRepository;
+    private final UserAccessCache accessCache;
+
+    /** 로그인 성공 시 호출: 세션과 캐시에 userId 저장 */
+    public void onLogin(HttpServletRequest request, User user) {
+        request.getSession().setAttribute(SESSION_USER_ID, user.getUserId());
+        accessCache.put(user.getGoogleSub(), user.getUserId());
+    }
+
+    public Long resolve(HttpServletRequest request, Authentication auth) {
+        if (auth == null || !auth.isAuthenticated()) {
+            throw ApiException.badRequest("인증 정보가 없습니다.");
+        }
+        if (!(auth.getPrincipal() instanceof OidcUser oidcUser)) {
+            throw ApiException.badRequest("지원하지 않는 인증 방식입니다.");
+        }
+
+        HttpSession session = request.getSession(false);
+        Long userId = session != null ? (Long) session.getAttribute(SESSION_USER_ID) : null;
+        if (userId == null) {
+            userId = accessCache.findUserId(oidcUser.getSubject());
+        }
+        if (userId == null) {
+            User user = userRepository.findByGoogleSub(oidcUser.getSubject())
+                    .orElseThrow(() -> ApiException.notFound("사용자를 찾을 수 없습니다."));
+            if (!User.STATUS_ACTIVE.equals(user.getStatus())) {
+                throw ApiException.forbidden("비활성화된 계정입니다.");
+            }
+            userId = user.getUserId();
+            accessCache.put(oidcUser.getSubject(), userId);
+        }
+        if (!accessCache.isActive(userId, this::isActiveInDb)) {
+            throw ApiException.forbidden("비활성화된 계정입니다.");
+        }
+
+        if (session != null && session.getAttribute(SESSION_USER_ID) == null) {
+            session.setAttribute(SESSION_USER_ID, userId);
+        }
+        return userId;
+    }
+
+    private boolean isActiveInDb(Long userId) {
+        return userRepository.findStatusById(userId)
+                .map(User.STATUS_ACTIVE::equals)
+                .orElse(false);
+    }
+}
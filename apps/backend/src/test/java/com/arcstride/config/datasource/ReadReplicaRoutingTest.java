@@ -0,0 +1,94 @@
+package com.arcstride.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * readOnly 경로의 replica/primary 선택: 연결 장애만 replica를 내리고, 풀 포화는 그대로 실패.
+ */
+class ReadReplicaRoutingTest {
+
+    private final DataSource primaryPath = mock(DataSource.class);
+    private final DataSource replicaPath = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+    private DataSource reads;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primaryPath.getConnection()).thenReturn(primaryConnection);
+        ReadReplicaRouting routing = new ReadReplicaRouting(mock(HikariDataSource.class), mock(HikariDataSource.class),
+                primaryPath, replicaPath,
+                new ReplicaProperties("jdbc:mysql://replica/arcstride", "app", "", Duration.ofSeconds(5), Duration.ofSeconds(10)));
+        reads = routing.readDataSource();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void poolExhaustionIsRethrownAndReplicaStaysInService() throws SQLException {
+        when(replicaPath.getConnection())
+                .thenThrow(new SQLTransientConnectionException("replica - Connection is not available, request timed out"))
+                .thenReturn(replicaConnection);
+
+        assertThatThrownBy(reads::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(reads.getConnection()).isSameAs(replicaConnection);
+        verify(primaryPath, never()).getConnection();
+    }
+
+    @Test
+    void connectionFailureFallsBackToPrimaryAndMarksReplicaDown() throws SQLException {
+        when(replicaPath.getConnection()).thenThrow(new SQLNonTransientConnectionException("Connection refused", "08001"));
+
+        assertThat(reads.getConnection()).isSameAs(primaryConnection);
+        assertThat(reads.getConnection()).isSameAs(primaryConnection);
+        verify(replicaPath, times(1)).getConnection();
+    }
+
+    @Test
+    void poolTimeoutCausedByConnectFailureCountsAsConnectivityFailure() throws SQLException {
+        SQLException cause = new SQLException("Communications link failure", "08S01");
+        when(replicaPath.getConnection())
+                .thenThrow(new SQLTransientConnectionException("request timed out", "08S01", cause));
+
+        assertThat(reads.getConnection()).isSameAs(primaryConnection);
+        assertThat(reads.getConnection()).isSameAs(primaryConnection);
+        verify(replicaPath, times(1)).getConnection();
+    }
+
+    @Test
+    void recentWriteInSessionReadsFromPrimary() throws SQLException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(ReadReplicaRouting.SESSION_LAST_WRITE, System.currentTimeMillis());
+        request.setSession(session);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        assertThat(reads.getConnection()).isSameAs(primaryConnection);
+        verify(replicaPath, never()).getConnection();
+    }
+}
@@ -0,0 +1,238 @@
+package com.arcstride.config.entitycache;
+
+import com.arcstride.common.enums.Enums.TitleType;
+import com.arcstride.common.enums.Enums.UnitType;
+import com.arcstride.domain.character.entity.GameCharacter;
+import com.arcstride.domain.character.repository.CharacterRepository;
+import com.arcstride.domain.library.entity.Store;
+import com.arcstride.domain.library.repository.StoreRepository;
+import com.arcstride.domain.title.entity.Title;
+import com.arcstride.domain.title.entity.TitleAlias;
+import com.arcstride.domain.title.entity.TitleStats;
+import com.arcstride.domain.title.repository.TitleAliasRepository;
+import com.arcstride.domain.title.repository.TitleRepository;
+import com.arcstride.domain.title.repository.TitleStatsRepository;
+import com.arcstride.domain.unit.entity.Unit;
+import com.arcstride.domain.unit.repository.UnitRepository;
+import com.arcstride.security.service.UserAccessCache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카탈로그 엔티티 2차 캐시 동작 확인 (H2 MySQL 모드).
+ * 세션(트랜잭션)마다 새 영속성 컨텍스트이므로 두 번째 조회의 SQL 수로 2차 캐시 적중 여부를 판단.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:entitycache;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=warn"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(EntityCacheConfig.class)
+@EnableConfigurationProperties(EntityCacheProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityCacheTest {
+
+    @Autowired
+    private TitleRepository titleRepository;
+    @Autowired
+    private TitleAliasRepository aliasRepository;
+    @Autowired
+    private TitleStatsRepository statsRepository;
+    @Autowired
+    private UnitRepository unitRepository;
+    @Autowired
+    private CharacterRepository characterRepository;
+    @Autowired
+    private StoreRepository storeRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private DataSource dataSource;
+
+    /** User 엔티티 리스너(UserStatusListener) 의존성 */
+    @MockitoBean
+    private UserAccessCache userAccessCache;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void titleFindByIdIsServedFromCacheInNextSession() {
+        Long titleId = tx.execute(s -> {
+            Title title = titleRepository.save(title("Title"));
+            statsRepository.save(TitleStats.builder().title(title).build());
+            return title.getTitleId();
+        });
+
+        assertSecondLoadHitsCache(() -> titleRepository.findById(titleId).orElseThrow());
+    }
+
+    @Test
+    void storeFindByIdIsServedFromCacheInNextSession() {
+        Long storeId = tx.execute(s -> storeRepository.save(Store.builder().name("Store").build()).getStoreId());
+
+        assertSecondLoadHitsCache(() -> storeRepository.findById(storeId).orElseThrow());
+    }
+
+    @Test
+    void unitFindByIdIsServedFromCacheInNextSession() {
+        Long unitId = tx.execute(s -> {
+            Title title = titleRepository.save(title("Unit title"));
+            return unitRepository.save(unit(title, "Vol 1")).getUnitId();
+        });
+
+        assertSecondLoadHitsCache(() -> unitRepository.findById(unitId).orElseThrow());
+    }
+
+    @Test
+    void unitGuideCountUpdateRefreshesOnlyThatUnitEntry() {
+        List<Long> unitIds = tx.execute(s -> {
+            Title title = titleRepository.save(title("Guide count title"));
+            return List.of(unitRepository.save(unit(title, "Vol 1")).getUnitId(),
+                    unitRepository.save(unit(title, "Vol 2")).getUnitId());
+        });
+        Long updated = unitIds.get(0);
+        Long other = unitIds.get(1);
+        entityManagerFactory.getCache().evictAll();
+        tx.executeWithoutResult(s -> unitIds.forEach(id -> unitRepository.findById(id).orElseThrow()));
+
+        // GuideService.refreshGuideCount와 같은 경로: 잠근 현재 행을 고쳐 씀
+        tx.executeWithoutResult(s -> unitRepository.findForUpdate(updated).orElseThrow().setGuideCount(3));
+
+        // 벌크 UPDATE와 달리 unit 리전 전체가 비워지지 않음: 다른 유닛은 그대로 캐시 적중
+        long statements = statistics.getPrepareStatementCount();
+        tx.execute(s -> unitRepository.findById(other).orElseThrow());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+
+        assertThat(entityManagerFactory.getCache().contains(Unit.class, updated)).isTrue();
+        Integer guideCount = tx.execute(s -> unitRepository.findById(updated).orElseThrow().getGuideCount());
+        assertThat(guideCount).isEqualTo(3);
+    }
+
+    @Test
+    void characterFindByIdIsServedFromCacheInNextSession() {
+        Long characterId = tx.execute(s -> {
+            Title title = titleRepository.save(title("Character title"));
+            return characterRepository.save(GameCharacter.builder()
+                    .title(title)
+                    .originalName("Alice")
+                    .normalizedOriginalName("alice")
+                    .build()).getCharacterId();
+        });
+
+        assertSecondLoadHitsCache(() -> characterRepository.findById(characterId).orElseThrow());
+    }
+
+    @Test
+    void aliasCollectionIsEvictedWhenAliasIsAdded() {
+        Long titleId = tx.execute(s -> {
+            Title title = titleRepository.save(title("Alias title"));
+            statsRepository.save(TitleStats.builder().title(title).build());
+            aliasRepository.save(TitleAlias.builder().title(title).aliasText("first").build());
+            return title.getTitleId();
+        });
+        entityManagerFactory.getCache().evictAll();
+
+        assertThat(aliasTexts(titleId)).containsExactly("first");
+        long statements = statistics.getPrepareStatementCount();
+        assertThat(aliasTexts(titleId)).containsExactly("first");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+
+        // TitleService.addAlias와 같은 경로: 작품 조회 후 별칭 저장
+        tx.executeWithoutResult(s -> aliasRepository.save(TitleAlias.builder()
+                .title(titleRepository.findById(titleId).orElseThrow())
+                .aliasText("second")
+                .build()));
+
+        assertThat(aliasTexts(titleId)).containsExactlyInAnyOrder("first", "second");
+    }
+
+    @Test
+    void statsRecountReadsCurrentRowInsteadOfCachedCopy() {
+        Long titleId = tx.execute(s -> {
+            Title title = titleRepository.save(title("Stats title"));
+            statsRepository.save(TitleStats.builder().title(title).build());
+            return title.getTitleId();
+        });
+        tx.execute(s -> titleRepository.findById(titleId).orElseThrow());
+
+        // 다른 인스턴스의 갱신 (이 인스턴스의 2차 캐시는 모름)
+        new JdbcTemplate(dataSource).update("UPDATE title_stats SET review_count = 7 WHERE title_id = ?", titleId);
+
+        Integer cached = tx.execute(s -> statsRepository.findById(titleId).orElseThrow().getReviewCount());
+        Integer locked = tx.execute(s -> {
+            titleRepository.findById(titleId).orElseThrow();   // 통계가 캐시 값으로 먼저 영속성 컨텍스트에 올라옴
+            return statsRepository.findForUpdate(titleId).orElseThrow().getReviewCount();
+        });
+
+        assertThat(cached).isZero();
+        assertThat(locked).isEqualTo(7);
+    }
+
+    /** 첫 세션에서 캐시를 채우고, 다음 세션의 같은 조회는 SQL 없이 2차 캐시 적중만 늘어야 함 */
+    private void assertSecondLoadHitsCache(Supplier<?> load) {
+        entityManagerFactory.getCache().evictAll();
+        tx.execute(s -> load.get());
+
+        long statements = statistics.getPrepareStatementCount();
+        long hits = statistics.getSecondLevelCacheHitCount();
+        tx.execute(s -> load.get());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isGreaterThan(hits);
+    }
+
+    private List<String> aliasTexts(Long titleId) {
+        return tx.execute(s -> titleRepository.findById(titleId).orElseThrow().getAliases().stream()
+                .map(TitleAlias::getAliasText)
+                .toList());
+    }
+
+    private static Title title(String name) {
+        return Title.builder().type(TitleType.GAME).originalTitle(name).build();
+    }
+
+    private static Unit unit(Title title, String key) {
+        return Unit.builder()
+                .title(title)
+                .unitType(UnitType.VOLUME)
+                .unitKey(key)
+                .normalizedUnitKey(key.toLowerCase())
+                .build();
+    }
+}
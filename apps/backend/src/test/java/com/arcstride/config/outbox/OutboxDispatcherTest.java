@@ -0,0 +1,179 @@
+package com.arcstride.config.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 아웃박스 재시도 backoff / 집계 순서 / dead letter 동작 확인 (H2 MySQL 모드, GET_LOCK은 항상 성공하는 함수로 대체).
+ */
+class OutboxDispatcherTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private RecordingConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        String url = "jdbc:h2:mem:outbox-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        jdbcTemplate.execute("CREATE ALIAS GET_LOCK AS 'int getLock(String name, int timeout) { return 1; }'");
+        jdbcTemplate.execute("CREATE ALIAS RELEASE_LOCK AS 'int releaseLock(String name) { return 1; }'");
+        jdbcTemplate.execute("""
+                CREATE TABLE outbox_events (
+                  event_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                  aggregate_type VARCHAR(30) NOT NULL,
+                  aggregate_id BIGINT NOT NULL,
+                  event_type VARCHAR(50) NOT NULL,
+                  payload VARCHAR(1000),
+                  attempts INT NOT NULL DEFAULT 0,
+                  next_attempt_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+                  created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+                )
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE outbox_dead_letters (
+                  event_id BIGINT PRIMARY KEY,
+                  aggregate_type VARCHAR(30) NOT NULL,
+                  aggregate_id BIGINT NOT NULL,
+                  event_type VARCHAR(50) NOT NULL,
+                  payload VARCHAR(1000),
+                  attempts INT NOT NULL,
+                  created_at TIMESTAMP(3) NOT NULL,
+                  dead_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+                )
+                """);
+        consumer = new RecordingConsumer(e -> e.aggregateId() == 1);
+    }
+
+    @Test
+    void failedEventWaitsForBackoffBeforeRetry() {
+        OutboxDispatcher dispatcher = dispatcher(properties(200, 10, Duration.ofMinutes(1)));
+        long eventId = append(1);
+
+        dispatcher.dispatch();
+        assertThat(consumer.delivered).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT attempts FROM outbox_events WHERE event_id = ?", Integer.class, eventId)).isEqualTo(1);
+
+        // backoff 동안에는 다시 전달하지 않음
+        int calls = consumer.calls;
+        dispatcher.dispatch();
+        assertThat(consumer.calls).isEqualTo(calls);
+
+        // 대기 시간이 지나면 재시도
+        consumer.failing = e -> false;
+        jdbcTemplate.update("UPDATE outbox_events SET next_attempt_at = TIMESTAMPADD(MINUTE, -1, CURRENT_TIMESTAMP(3))");
+        dispatcher.dispatch();
+        assertThat(consumer.delivered).containsExactly(eventId);
+        assertThat(pendingCount()).isZero();
+    }
+
+    @Test
+    void laterEventOfWaitingAggregateIsNotDeliveredAhead() {
+        OutboxDispatcher dispatcher = dispatcher(properties(200, 10, Duration.ofMinutes(1)));
+        append(1);
+        dispatcher.dispatch();
+
+        consumer.failing = e -> false;
+        long later = append(1);
+        long other = append(2);
+        dispatcher.dispatch();
+
+        assertThat(consumer.delivered).containsExactly(other);
+        assertThat(pendingIds()).contains(later);
+    }
+
+    @Test
+    void failedAggregateIsSkippedForRestOfRun() {
+        // backoff 0: 실패한 이벤트가 곧바로 다시 조회되어도 같은 주기에는 재시도하지 않음
+        OutboxDispatcher dispatcher = dispatcher(properties(1, 5, Duration.ZERO));
+        long eventId = append(1);
+
+        dispatcher.dispatch();
+
+        assertThat(consumer.calls).isEqualTo(2);   // 배치 1회 + 집계별 재시도 1회
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT attempts FROM outbox_events WHERE event_id = ?", Integer.class, eventId)).isEqualTo(1);
+    }
+
+    @Test
+    void eventMovesToDeadLettersAfterMaxAttempts() {
+        OutboxDispatcher dispatcher = dispatcher(new OutboxProperties(
+                Duration.ofMillis(500), 200, 10, 2, Duration.ZERO, Duration.ZERO));
+        long eventId = append(1);
+
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        assertThat(pendingCount()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT attempts FROM outbox_dead_letters WHERE event_id = ?", Integer.class, eventId)).isEqualTo(2);
+    }
+
+    private OutboxDispatcher dispatcher(OutboxProperties properties) {
+        return new OutboxDispatcher(jdbcTemplate, new ObjectMapper(), properties, List.of(consumer),
+                new SimpleMeterRegistry());
+    }
+
+    private static OutboxProperties properties(int batchSize, int maxBatchesPerRun, Duration retryBackoff) {
+        return new OutboxProperties(Duration.ofMillis(500), batchSize, maxBatchesPerRun, 10,
+                retryBackoff, Duration.ofMinutes(5));
+    }
+
+    private long append(long titleId) {
+        jdbcTemplate.update("INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type) VALUES (?, ?, ?)",
+                OutboxEventType.Aggregate.TITLE.name(), titleId, OutboxEventType.REVIEW_CHANGED.name());
+        return jdbcTemplate.queryForObject("SELECT MAX(event_id) FROM outbox_events", Long.class);
+    }
+
+    private int pendingCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class);
+    }
+
+    private List<Long> pendingIds() {
+        return jdbcTemplate.queryForList("SELECT event_id FROM outbox_events", Long.class);
+    }
+
+    /** failing에 해당하는 이벤트가 포함되면 예외, 아니면 전달된 event_id 기록 */
+    private static final class RecordingConsumer implements OutboxConsumer {
+
+        private final List<Long> delivered = new ArrayList<>();
+        private Predicate<OutboxEvent> failing;
+        private int calls;
+
+        RecordingConsumer(Predicate<OutboxEvent> failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public Set<OutboxEventType> eventTypes() {
+            return Set.of(OutboxEventType.REVIEW_CHANGED);
+        }
+
+        @Override
+        public void handle(List<OutboxEvent> events) {
+            calls++;
+            if (events.stream().anyMatch(failing)) {
+                throw new IllegalStateException("consumer down");
+            }
+            events.forEach(e -> delivered.add(e.eventId()));
+        }
+    }
+}
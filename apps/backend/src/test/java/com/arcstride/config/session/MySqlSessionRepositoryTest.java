@@ -0,0 +1,98 @@
+package com.arcstride.config.session;
+
+import com.arcstride.config.session.MySqlSessionRepository.DbSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 인스턴스(저장소 2개)가 같은 http_sessions를 공유할 때 hot tier가 다른 인스턴스의 변경을 놓치지 않는지 확인 (H2).
+ */
+class MySqlSessionRepositoryTest {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+    private MySqlSessionRepository instanceA;
+    private MySqlSessionRepository instanceB;
+
+    @BeforeEach
+    void setUp() {
+        db = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(db);
+        jdbcTemplate.execute("""
+                CREATE TABLE http_sessions (
+                  session_id VARCHAR(64) NOT NULL PRIMARY KEY,
+                  creation_time BIGINT NOT NULL,
+                  last_access_time BIGINT NOT NULL,
+                  max_inactive_seconds INT NOT NULL,
+                  expiry_time BIGINT NOT NULL,
+                  attributes BLOB NOT NULL,
+                  attributes_version BIGINT NOT NULL DEFAULT 0
+                )
+                """);
+        SessionStoreProperties properties = new SessionStoreProperties(Duration.ofDays(7), 100, Duration.ofMinutes(10), 500);
+        instanceA = new MySqlSessionRepository(jdbcTemplate, properties);
+        instanceB = new MySqlSessionRepository(jdbcTemplate, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        db.shutdown();
+    }
+
+    @Test
+    void attributeWriteOnOtherInstanceIsVisibleDespiteHotSnapshot() {
+        String id = create("user", 1L);
+        assertThat((Long) instanceB.findById(id).getAttribute("user")).isEqualTo(1L);   // B의 hot tier에 적재
+
+        DbSession onA = instanceA.findById(id);
+        onA.setAttribute("user", 2L);
+        instanceA.save(onA);
+
+        assertThat((Long) instanceB.findById(id).getAttribute("user")).isEqualTo(2L);
+    }
+
+    @Test
+    void deleteOnOtherInstanceInvalidatesHotSnapshot() {
+        String id = create("user", 1L);
+        assertThat(instanceB.findById(id)).isNotNull();
+
+        instanceA.deleteById(id);
+
+        assertThat(instanceB.findById(id)).isNull();
+    }
+
+    @Test
+    void unchangedSessionIsServedFromSnapshotWithLatestAccessTime() {
+        String id = create("user", 1L);
+        DbSession first = instanceB.findById(id);
+
+        // 다른 인스턴스의 last-access batch 반영 (버전은 그대로)
+        long later = first.getLastAccessedTime().toEpochMilli() + 60_000;
+        jdbcTemplate.update("UPDATE http_sessions SET last_access_time = ?, attributes = ? WHERE session_id = ?",
+                later, new byte[0], id);
+
+        DbSession again = instanceB.findById(id);
+        // 속성 BLOB을 다시 읽었다면 빈 바이트 역직렬화 실패로 속성이 비었을 것
+        assertThat((Long) again.getAttribute("user")).isEqualTo(1L);
+        assertThat(again.getLastAccessedTime().toEpochMilli()).isEqualTo(later);
+    }
+
+    private String create(String name, Object value) {
+        DbSession session = instanceA.createSession();
+        session.setAttribute(name, value);
+        instanceA.save(session);
+        return session.getId();
+    }
+}
@@ -0,0 +1,127 @@
+package com.arcstride.domain.memo.service;
+
+import com.arcstride.domain.memo.repository.MemoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 메모 색인 랭킹/매칭과 다른 인스턴스 변경 감지 (MemoRepository는 mock).
+ */
+class MemoSearchIndexTest {
+
+    private static final Long USER = 1L;
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private final MemoRepository memoRepository = mock(MemoRepository.class);
+    private final List<MemoRepository.IndexRow> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(memoRepository.findIndexRowsByUser(USER)).thenAnswer(inv -> List.copyOf(rows));
+        when(memoRepository.findIndexStamp(USER)).thenAnswer(inv -> new Stamp((long) rows.size(),
+                rows.stream().map(MemoRepository.IndexRow::getUpdatedAt).max(LocalDateTime::compareTo).orElse(null)));
+    }
+
+    @Test
+    void ranksByBm25AndRequiresAllTokens() {
+        row(1L, "보스 패턴 정리", 1);
+        row(2L, "보스 보스 보스 패턴", 2);
+        row(3L, "보스만 언급", 3);
+        MemoSearchIndex index = index(Duration.ofMinutes(10));
+
+        assertThat(search(index, "보스 패턴")).containsExactly(2L, 1L);
+        assertThat(index.search(USER, "보스 패턴", null, 0, 10).total()).isEqualTo(2);
+    }
+
+    @Test
+    void latinWordMatchesByPrefix() {
+        row(1L, "Hello world", 1);
+        row(2L, "help me", 2);
+        MemoSearchIndex index = index(Duration.ofMinutes(10));
+
+        assertThat(search(index, "hel")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(search(index, "hello")).containsExactly(1L);
+    }
+
+    @Test
+    void singleCjkCharacterMatchesInsideLongerRun() {
+        row(1L, "책을 읽었다", 1);
+        row(2L, "영화를 봤다", 2);
+        MemoSearchIndex index = index(Duration.ofMinutes(10));
+
+        assertThat(search(index, "책")).containsExactly(1L);
+    }
+
+    @Test
+    void changeOnOtherInstanceTriggersRebuildAfterRevalidateInterval() {
+        row(1L, "보스 패턴", 1);
+        MemoSearchIndex index = index(Duration.ZERO);
+        assertThat(search(index, "보스")).containsExactly(1L);
+
+        // 다른 인스턴스에서 메모 추가 (이 인스턴스의 onSaved는 호출되지 않음)
+        row(2L, "보스 공략", 2);
+
+        assertThat(search(index, "보스")).containsExactlyInAnyOrder(1L, 2L);
+        verify(memoRepository, times(2)).findIndexRowsByUser(USER);
+    }
+
+    @Test
+    void unchangedStampKeepsIndex() {
+        row(1L, "보스 패턴", 1);
+        MemoSearchIndex index = index(Duration.ZERO);
+
+        search(index, "보스");
+        search(index, "패턴");
+
+        verify(memoRepository, times(1)).findIndexRowsByUser(USER);
+    }
+
+    @Test
+    void changeIsNotCheckedWithinRevalidateInterval() {
+        row(1L, "보스 패턴", 1);
+        MemoSearchIndex index = index(Duration.ofMinutes(10));
+        search(index, "보스");
+
+        row(2L, "보스 공략", 2);
+
+        assertThat(search(index, "보스")).containsExactly(1L);
+        verify(memoRepository, times(1)).findIndexStamp(USER);
+    }
+
+    private MemoSearchIndex index(Duration revalidateInterval) {
+        return new MemoSearchIndex(memoRepository,
+                new MemoSearchProperties(500, Duration.ofMinutes(30), revalidateInterval));
+    }
+
+    private static List<Long> search(MemoSearchIndex index, String query) {
+        return index.search(USER, query, null, 0, 10).memoIds();
+    }
+
+    private void row(Long memoId, String text, int minutes) {
+        rows.add(new Row(memoId, text, 10L, T0.plusMinutes(minutes)));
+    }
+
+    private record Row(Long memoId, String memoText, Long titleId, LocalDateTime updatedAt)
+            implements MemoRepository.IndexRow {
+        @Override public Long getMemoId() { return memoId; }
+        @Override public String getMemoText() { return memoText; }
+        @Override public Long getTitleId() { return titleId; }
+        @Override public LocalDateTime getUpdatedAt() { return updatedAt; }
+    }
+
+    private record Stamp(Long count, LocalDateTime maxUpdatedAt) implements MemoRepository.IndexStamp {
+        @Override public Long getCount() { return count; }
+        @Override public LocalDateTime getMaxUpdatedAt() { return maxUpdatedAt; }
+    }
+}
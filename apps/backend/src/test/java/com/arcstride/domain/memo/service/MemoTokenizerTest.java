@@ -0,0 +1,45 @@
+package com.arcstride.domain.memo.service;
+
+import com.arcstride.domain.memo.service.MemoTokenizer.Token;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoTokenizerTest {
+
+    @Test
+    void cjkRunBecomesBigrams() {
+        assertThat(MemoTokenizer.tokenize("보스패턴"))
+                .containsExactly(cjk("보스"), cjk("스패"), cjk("패턴"));
+    }
+
+    @Test
+    void singleCjkCharacterIsUnigram() {
+        assertThat(MemoTokenizer.tokenize("책")).containsExactly(cjk("책"));
+    }
+
+    @Test
+    void indexTokensAddUnigramsForLongerRuns() {
+        assertThat(MemoTokenizer.tokenizeForIndex("책을"))
+                .containsExactly(cjk("책을"), cjk("책"), cjk("을"));
+    }
+
+    @Test
+    void latinRunIsLowercasedWordAndSeparatorsSplit() {
+        assertThat(MemoTokenizer.tokenize("Boss HP: 120, 보스!"))
+                .containsExactly(word("boss"), word("hp"), word("120"), cjk("보스"));
+    }
+
+    @Test
+    void switchBetweenLatinAndCjkSplitsTokens() {
+        assertThat(MemoTokenizer.tokenize("DLC보스")).containsExactly(word("dlc"), cjk("보스"));
+    }
+
+    private static Token cjk(String text) {
+        return new Token(text, false);
+    }
+
+    private static Token word(String text) {
+        return new Token(text, true);
+    }
+}
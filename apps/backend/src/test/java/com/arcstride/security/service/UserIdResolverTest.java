@@ -0,0 +1,92 @@
+package com.arcstride.security.service;
+
+import com.arcstride.common.exception.ApiException;
+import com.arcstride.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.core.oidc.user.OidcUser;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세션에 userId가 남아 있는 사용자의 비활성화 반영: 같은 인스턴스는 즉시, 다른 인스턴스는 statusTtl 후 DB 재확인.
+ */
+class UserIdResolverTest {
+
+    private static final Long USER_ID = 7L;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final Authentication auth = mock(Authentication.class);
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        OidcUser oidcUser = mock(OidcUser.class);
+        when(oidcUser.getSubject()).thenReturn("sub-7");
+        when(auth.isAuthenticated()).thenReturn(true);
+        when(auth.getPrincipal()).thenReturn(oidcUser);
+
+        request = new MockHttpServletRequest();
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(UserIdResolver.SESSION_USER_ID, USER_ID);
+        request.setSession(session);
+    }
+
+    @Test
+    void disableOnSameInstanceBlocksImmediately() {
+        UserAccessCache cache = cache(Duration.ofMinutes(10));
+        UserIdResolver resolver = new UserIdResolver(userRepository, cache);
+        when(userRepository.findStatusById(USER_ID)).thenReturn(Optional.of("ACTIVE"));
+        assertThat(resolver.resolve(request, auth)).isEqualTo(USER_ID);
+
+        cache.markDisabled("sub-7", USER_ID);
+
+        assertThatThrownBy(() -> resolver.resolve(request, auth)).isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void disableOnOtherInstanceIsDetectedAfterStatusTtl() {
+        UserIdResolver resolver = new UserIdResolver(userRepository, cache(Duration.ZERO));
+        when(userRepository.findStatusById(USER_ID)).thenReturn(Optional.of("ACTIVE"));
+        assertThat(resolver.resolve(request, auth)).isEqualTo(USER_ID);
+
+        // 다른 인스턴스에서 비활성화 (이 인스턴스의 캐시에는 알림 없음)
+        when(userRepository.findStatusById(USER_ID)).thenReturn(Optional.of("DISABLED"));
+
+        assertThatThrownBy(() -> resolver.resolve(request, auth)).isInstanceOf(ApiException.class);
+    }
+
+    @Test
+    void cachedStatusIsReusedWithinStatusTtl() {
+        UserIdResolver resolver = new UserIdResolver(userRepository, cache(Duration.ofMinutes(10)));
+        when(userRepository.findStatusById(USER_ID)).thenReturn(Optional.of("ACTIVE"));
+
+        resolver.resolve(request, auth);
+        resolver.resolve(request, auth);
+
+        verify(userRepository, times(1)).findStatusById(USER_ID);
+    }
+
+    @Test
+    void deletedUserIsRejected() {
+        UserIdResolver resolver = new UserIdResolver(userRepository, cache(Duration.ofMinutes(10)));
+        when(userRepository.findStatusById(USER_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> resolver.resolve(request, auth)).isInstanceOf(ApiException.class);
+    }
+
+    private static UserAccessCache cache(Duration statusTtl) {
+        return new UserAccessCache(new UserAccessProperties(100, statusTtl));
+    }
+}
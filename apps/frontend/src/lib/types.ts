@@ -170,6 +170,7 @@ export interface GuideListItem {
 }
 export interface GuideDetail extends GuideListItem {
   content: string;
+  viewCount: number;
   updatedAt: string;
 }
 
@@ -0,0 +1,15 @@
+-- Arcstride: 작품 단위 버전 카운터 (조건부 GET용)
+-- 작품의 별칭/유닛/캐릭터/통계가 바뀔 때마다 같은 트랜잭션에서 version = version + 1
+-- 공개 카탈로그 GET은 이 행(PK 1건)만 읽어 ETag/Last-Modified를 만들고, 일치하면 본 조회 없이 304
+
+CREATE TABLE title_versions (
+  title_id BIGINT NOT NULL,
+  version BIGINT NOT NULL DEFAULT 1,
+  updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (title_id),
+  CONSTRAINT fk_title_versions_title FOREIGN KEY (title_id)
+    REFERENCES titles(title_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO title_versions (title_id, version, updated_at)
+SELECT title_id, 1, CURRENT_TIMESTAMP(3) FROM titles;
@@ -0,0 +1,14 @@
+-- Arcstride: 트랜잭셔널 아웃박스
+-- 도메인 변경과 같은 트랜잭션에서 기록, OutboxDispatcher가 event_id 순으로 소비자에게 전달 후 삭제
+-- 전달 실패 시 attempts 증가 (arcstride.outbox.max-attempts 도달 시 에러 로그 후 폐기)
+
+CREATE TABLE outbox_events (
+  event_id BIGINT NOT NULL AUTO_INCREMENT,
+  aggregate_type VARCHAR(30) NOT NULL,
+  aggregate_id BIGINT NOT NULL,
+  event_type VARCHAR(50) NOT NULL,
+  payload JSON NULL,
+  attempts INT NOT NULL DEFAULT 0,
+  created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (event_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
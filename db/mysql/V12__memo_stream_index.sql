@@ -0,0 +1,7 @@
+-- Arcstride: 메모 NDJSON 스트리밍 keyset 인덱스
+-- 청크 조회(WHERE user_id = ? AND (updated_at, memo_id) < 커서 ORDER BY updated_at DESC, memo_id DESC)가 정렬 없이 인덱스 범위로 읽히도록
+-- FK(fk_memos_user)는 새 복합 인덱스의 선두 컬럼으로 충족
+
+ALTER TABLE user_memos
+  ADD KEY ix_memos_user_updated (user_id, updated_at, memo_id),
+  DROP KEY ix_memos_user;
@@ -0,0 +1,15 @@
+-- Arcstride: 아웃박스 dead letter
+-- arcstride.outbox.max-attempts만큼 전달에 실패한 이벤트를 폐기하지 않고 이 테이블로 옮김 (V11의 "에러 로그 후 폐기" 대체)
+-- event_id는 원래 outbox_events의 값 그대로, attempts는 마지막 실패까지 포함한 횟수
+
+CREATE TABLE outbox_dead_letters (
+  event_id BIGINT NOT NULL,
+  aggregate_type VARCHAR(30) NOT NULL,
+  aggregate_id BIGINT NOT NULL,
+  event_type VARCHAR(50) NOT NULL,
+  payload JSON NULL,
+  attempts INT NOT NULL,
+  created_at TIMESTAMP(3) NOT NULL,
+  dead_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (event_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
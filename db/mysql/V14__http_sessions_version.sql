@@ -0,0 +1,6 @@
+-- Arcstride: 세션 속성 버전
+-- MySqlSessionRepository hot tier가 매 조회마다 PK로 버전만 확인해, 다른 인스턴스의 속성 변경을 즉시 반영하도록
+-- 속성 BLOB을 쓸 때마다 1 증가 (last-access만 바뀌는 touch는 증가시키지 않음)
+
+ALTER TABLE http_sessions
+  ADD COLUMN attributes_version BIGINT NOT NULL DEFAULT 0 AFTER attributes;
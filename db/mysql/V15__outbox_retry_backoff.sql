@@ -0,0 +1,7 @@
+-- Arcstride: 아웃박스 재시도 backoff
+-- next_attempt_at: 이 시각 이후에만 전달 대상 (실패 시 OutboxDispatcher가 지수 backoff로 미룸, 새 이벤트는 INSERT 시각)
+-- ix_outbox_aggregate: 대기 중인 앞 이벤트가 있는 집계의 뒤 이벤트를 건너뛰는 NOT EXISTS 검사용
+
+ALTER TABLE outbox_events
+  ADD COLUMN next_attempt_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) AFTER attempts,
+  ADD KEY ix_outbox_aggregate (aggregate_type, aggregate_id, event_id);
@@ -0,0 +1,6 @@
+-- Arcstride: 댓글 soft delete + 비동기 정리
+-- DELETE /api/comments/{id}는 status = 'DELETED'만 기록하고,
+-- CommentPurger가 비피크 시간대에 (status, updated_at) 기준으로 배치 삭제
+
+ALTER TABLE comments
+  ADD KEY ix_comments_status_updated (status, updated_at);
@@ -0,0 +1,13 @@
+-- Arcstride: 공략 본문 압축 저장
+-- content(LONGTEXT) → content_data(LONGBLOB) + content_codec(PLAIN/DEFLATE)
+-- 기존 행은 UTF-8 바이트 그대로 PLAIN으로 이관, 이후 수정 시 애플리케이션이 DEFLATE로 재저장
+
+ALTER TABLE guides
+  ADD COLUMN content_data LONGBLOB NULL AFTER title,
+  ADD COLUMN content_codec VARCHAR(10) NOT NULL DEFAULT 'PLAIN' AFTER content_data;
+
+UPDATE guides SET content_data = CAST(content AS BINARY), content_codec = 'PLAIN';
+
+ALTER TABLE guides
+  MODIFY COLUMN content_data LONGBLOB NOT NULL,
+  DROP COLUMN content;
@@ -0,0 +1,18 @@
+-- Arcstride: 공략 서버 렌더링 캐시
+-- guides.content_hash = SHA-256(본문 UTF-8). 렌더 결과는 해시 단위로 guide_renders에 1회만 저장
+-- DEFLATE로 저장된 기존 행은 SQL로 해시를 계산할 수 없으므로 NULL로 두고, 첫 렌더 요청 시 애플리케이션이 보정
+
+ALTER TABLE guides
+  ADD COLUMN content_hash CHAR(64) NULL AFTER content_codec,
+  ADD KEY ix_guides_content_hash (content_hash);
+
+UPDATE guides SET content_hash = SHA2(content_data, 256) WHERE content_codec = 'PLAIN';
+
+CREATE TABLE guide_renders (
+  content_hash CHAR(64) NOT NULL,
+  renderer_version INT NOT NULL,
+  html_data LONGBLOB NOT NULL,
+  html_codec VARCHAR(10) NOT NULL DEFAULT 'PLAIN',
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (content_hash)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,18 @@
+-- Arcstride: 공략 본문 리비전 이력
+-- 최신 본문은 guides에 그대로 두고(1행 조회 유지), 이력만 스냅샷/델타로 누적
+-- 기존 공략은 첫 수정 시 이전 본문이 리비전 1(스냅샷)로 기록됨
+
+CREATE TABLE guide_revisions (
+  revision_id BIGINT NOT NULL AUTO_INCREMENT,
+  guide_id BIGINT NOT NULL,
+  revision_no INT NOT NULL,
+  kind VARCHAR(10) NOT NULL,
+  data LONGBLOB NOT NULL,
+  content_hash CHAR(64) NOT NULL,
+  content_length INT NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (revision_id),
+  UNIQUE KEY uk_guide_revisions (guide_id, revision_no),
+  CONSTRAINT fk_guide_revisions_guide FOREIGN KEY (guide_id)
+    REFERENCES guides(guide_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,33 @@
+-- Arcstride: 공략 대상별 조회 인덱스 + 대상별 공략 수
+-- 대상별 목록(WHERE title_id|unit_id = ? AND status AND visibility ORDER BY created_at)이 인덱스만으로 정렬되도록 복합 인덱스로 교체
+-- FK(fk_guides_title / fk_guides_unit)는 새 복합 인덱스의 선두 컬럼으로 충족
+
+ALTER TABLE guides
+  ADD KEY ix_guides_title_public (title_id, status, visibility, created_at),
+  ADD KEY ix_guides_unit_public (unit_id, status, visibility, created_at),
+  ADD KEY ix_guides_public_created (status, visibility, created_at),
+  DROP KEY ix_guides_title,
+  DROP KEY ix_guides_unit;
+
+ALTER TABLE title_stats
+  ADD COLUMN guide_count INT NOT NULL DEFAULT 0 AFTER comment_count;
+
+ALTER TABLE units
+  ADD COLUMN guide_count INT NOT NULL DEFAULT 0 AFTER created_by;
+
+-- 기존 데이터 집계
+INSERT INTO title_stats (title_id, guide_count)
+SELECT g.title_id, COUNT(*)
+FROM guides g
+WHERE g.title_id IS NOT NULL AND g.status = 'ACTIVE' AND g.visibility = 'PUBLIC'
+GROUP BY g.title_id
+ON DUPLICATE KEY UPDATE guide_count = VALUES(guide_count);
+
+UPDATE units u
+JOIN (
+  SELECT unit_id, COUNT(*) AS cnt
+  FROM guides
+  WHERE unit_id IS NOT NULL AND status = 'ACTIVE' AND visibility = 'PUBLIC'
+  GROUP BY unit_id
+) c ON c.unit_id = u.unit_id
+SET u.guide_count = c.cnt, u.updated_at = u.updated_at;
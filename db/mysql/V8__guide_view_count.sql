@@ -0,0 +1,5 @@
+-- Arcstride: 공략 조회수
+-- detail 요청마다 UPDATE 하지 않고 GuideViewCounter가 메모리에서 누적 후 주기적으로 batch 반영
+
+ALTER TABLE guides
+  ADD COLUMN view_count BIGINT NOT NULL DEFAULT 0 AFTER content_hash;
@@ -0,0 +1,13 @@
+-- Arcstride: HttpSession 영속 저장소 (MySqlSessionRepository)
+-- attributes: DEFLATE 압축된 Java 직렬화 Map, 시간 컬럼은 epoch millis
+
+CREATE TABLE http_sessions (
+  session_id VARCHAR(64) NOT NULL,
+  creation_time BIGINT NOT NULL,
+  last_access_time BIGINT NOT NULL,
+  max_inactive_seconds INT NOT NULL,
+  expiry_time BIGINT NOT NULL,
+  attributes LONGBLOB NOT NULL,
+  PRIMARY KEY (session_id),
+  KEY ix_http_sessions_expiry (expiry_time)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -6,10 +6,16 @@ SET NAMES utf8mb4;
 SET FOREIGN_KEY_CHECKS = 0;
 
 -- Drop order: children -> parents
+DROP TABLE IF EXISTS outbox_dead_letters;
+DROP TABLE IF EXISTS outbox_events;
+DROP TABLE IF EXISTS title_versions;
+DROP TABLE IF EXISTS http_sessions;
 DROP TABLE IF EXISTS title_stats;
 DROP TABLE IF EXISTS user_library_items;
 DROP TABLE IF EXISTS stores;
 DROP TABLE IF EXISTS user_reviews;
+DROP TABLE IF EXISTS guide_revisions;
+DROP TABLE IF EXISTS guide_renders;
 DROP TABLE IF EXISTS guides;
 DROP TABLE IF EXISTS user_memos;
 DROP TABLE IF EXISTS user_unit_progress;
@@ -194,6 +200,7 @@ CREATE TABLE units (
   character_id BIGINT NULL,
   status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
   created_by BIGINT NULL,
+  guide_count INT NOT NULL DEFAULT 0, -- 공개 공략 수 (애플리케이션이 재집계)
   created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
   updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   PRIMARY KEY (unit_id),
@@ -227,6 +234,7 @@ CREATE TABLE comments (
   KEY ix_comments_title_created (title_id, created_at),
   KEY ix_comments_user_created (user_id, created_at),
   KEY ix_comments_parent (parent_id),
+  KEY ix_comments_status_updated (status, updated_at),
   CONSTRAINT fk_comments_title FOREIGN KEY (title_id)
     REFERENCES titles(title_id) ON DELETE CASCADE,
   CONSTRAINT fk_comments_user FOREIGN KEY (user_id)
@@ -271,7 +279,7 @@ CREATE TABLE user_memos (
   created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
   updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   PRIMARY KEY (memo_id),
-  KEY ix_memos_user (user_id),
+  KEY ix_memos_user_updated (user_id, updated_at, memo_id),
   KEY ix_memos_title (title_id),
   KEY ix_memos_unit (unit_id),
   CONSTRAINT fk_memos_user FOREIGN KEY (user_id)
@@ -295,15 +303,20 @@ CREATE TABLE guides (
   title_id BIGINT NULL,
   unit_id BIGINT NULL,
   title VARCHAR(255) NOT NULL,
-  content LONGTEXT NOT NULL,
+  content_data LONGBLOB NOT NULL,
+  content_codec VARCHAR(10) NOT NULL DEFAULT 'PLAIN', -- PLAIN|DEFLATE
+  content_hash CHAR(64) NULL, -- SHA-256(본문 UTF-8), guide_renders 키
+  view_count BIGINT NOT NULL DEFAULT 0, -- 애플리케이션이 주기적으로 batch 반영
   visibility VARCHAR(20) NOT NULL DEFAULT 'PUBLIC',
   status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
   created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
   updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   PRIMARY KEY (guide_id),
   KEY ix_guides_author_created (author_user_id, created_at),
-  KEY ix_guides_title (title_id),
-  KEY ix_guides_unit (unit_id),
+  KEY ix_guides_title_public (title_id, status, visibility, created_at),
+  KEY ix_guides_unit_public (unit_id, status, visibility, created_at),
+  KEY ix_guides_public_created (status, visibility, created_at),
+  KEY ix_guides_content_hash (content_hash),
   CONSTRAINT fk_guides_author FOREIGN KEY (author_user_id)
     REFERENCES users(user_id) ON DELETE CASCADE,
   CONSTRAINT fk_guides_title FOREIGN KEY (title_id)
@@ -316,6 +329,36 @@ CREATE TABLE guides (
   )
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- =========================================================
+-- 11-1) guide_renders (공략 본문 렌더 캐시, content_hash 단위)
+-- =========================================================
+CREATE TABLE guide_renders (
+  content_hash CHAR(64) NOT NULL,
+  renderer_version INT NOT NULL,
+  html_data LONGBLOB NOT NULL,
+  html_codec VARCHAR(10) NOT NULL DEFAULT 'PLAIN', -- PLAIN|DEFLATE
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (content_hash)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- =========================================================
+-- 11-2) guide_revisions (공략 본문 이력: 스냅샷 + 델타)
+-- =========================================================
+CREATE TABLE guide_revisions (
+  revision_id BIGINT NOT NULL AUTO_INCREMENT,
+  guide_id BIGINT NOT NULL,
+  revision_no INT NOT NULL,
+  kind VARCHAR(10) NOT NULL, -- SNAPSHOT|DELTA
+  data LONGBLOB NOT NULL,    -- DEFLATE (SNAPSHOT: 본문, DELTA: 직전 리비전 대비 BinaryDelta)
+  content_hash CHAR(64) NOT NULL,
+  content_length INT NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (revision_id),
+  UNIQUE KEY uk_guide_revisions (guide_id, revision_no),
+  CONSTRAINT fk_guide_revisions_guide FOREIGN KEY (guide_id)
+    REFERENCES guides(guide_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 -- =========================================================
 -- 12) user_reviews (score x2: 0..20)
 -- =========================================================
@@ -392,9 +435,68 @@ CREATE TABLE title_stats (
   avg_etc_x2 DECIMAL(6,3) NOT NULL DEFAULT 0.000,
   review_count INT NOT NULL DEFAULT 0,
   comment_count INT NOT NULL DEFAULT 0,
+  guide_count INT NOT NULL DEFAULT 0,
   updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   PRIMARY KEY (title_id),
   KEY ix_title_stats_updated (updated_at),
   CONSTRAINT fk_title_stats_title FOREIGN KEY (title_id)
     REFERENCES titles(title_id) ON DELETE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- =========================================================
+-- 16) http_sessions (HttpSession 저장소)
+-- =========================================================
+CREATE TABLE http_sessions (
+  session_id VARCHAR(64) NOT NULL,
+  creation_time BIGINT NOT NULL,
+  last_access_time BIGINT NOT NULL,
+  max_inactive_seconds INT NOT NULL,
+  expiry_time BIGINT NOT NULL,
+  attributes LONGBLOB NOT NULL,
+  attributes_version BIGINT NOT NULL DEFAULT 0,
+  PRIMARY KEY (session_id),
+  KEY ix_http_sessions_expiry (expiry_time)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- =========================================================
+-- 17) title_versions (조건부 GET용 작품 버전 카운터)
+-- =========================================================
+CREATE TABLE title_versions (
+  title_id BIGINT NOT NULL,
+  version BIGINT NOT NULL DEFAULT 1,
+  updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (title_id),
+  CONSTRAINT fk_title_versions_title FOREIGN KEY (title_id)
+    REFERENCES titles(title_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- =========================================================
+-- 18) outbox_events (트랜잭셔널 아웃박스)
+-- =========================================================
+CREATE TABLE outbox_events (
+  event_id BIGINT NOT NULL AUTO_INCREMENT,
+  aggregate_type VARCHAR(30) NOT NULL,
+  aggregate_id BIGINT NOT NULL,
+  event_type VARCHAR(50) NOT NULL,
+  payload JSON NULL,
+  attempts INT NOT NULL DEFAULT 0,
+  next_attempt_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  created_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (event_id),
+  KEY ix_outbox_aggregate (aggregate_type, aggregate_id, event_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- =========================================================
+-- 19) outbox_dead_letters (전달 최대 시도 초과 이벤트)
+-- =========================================================
+CREATE TABLE outbox_dead_letters (
+  event_id BIGINT NOT NULL,
+  aggregate_type VARCHAR(30) NOT NULL,
+  aggregate_id BIGINT NOT NULL,
+  event_type VARCHAR(50) NOT NULL,
+  payload JSON NULL,
+  attempts INT NOT NULL,
+  created_at TIMESTAMP(3) NOT NULL,
+  dead_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (event_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;